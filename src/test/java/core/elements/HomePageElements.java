@@ -14,8 +14,10 @@ public class HomePageElements {
     public static final By REGISTER_LINK = By.linkText("Register");
     public static final By SIGN_IN_LINK  = By.linkText("Log In");
     public static final By LOG_OUT_LINK  = By.linkText("Log Out");
+    @Matches(Matches.Count.MANY)
     public static final By ACCOUNT_LABEL = By.cssSelector("span.label");  // Shown after expanding Account menu
     public static final By WELCOME_MSG = By.cssSelector("p.welcome-msg");  // Shown after successful login
+    public static final By LOG_OUT_HREF = By.cssSelector("#header-account a[href*='customer/account/logout']");  // In the DOM (hidden) while signed in
 
 
     // ===== Top Navigation =====
@@ -0,0 +1,31 @@
+package core.elements;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * How many elements a locator is expected to match on its page (checked offline by LocatorValidator).
+ * Locators without the annotation are expected to match exactly ONE element in every snapshot state.
+ * A locator that belongs to some states only (e.g. the configure page of the wishlist flow) lists them
+ * in states(); the other states of its page are then not checked for it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Matches {
+
+    Count value();
+
+    // Snapshot states (PageSnapshots) the expectation applies to; empty = all states of the page
+    String[] states() default {};
+
+    enum Count {
+        // exactly one element (default)
+        ONE,
+        // lists and per-row / per-product locators
+        MANY,
+        // fallback locators that may legitimately match nothing
+        OPTIONAL
+    }
+}
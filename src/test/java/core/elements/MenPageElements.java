@@ -10,9 +10,14 @@ import org.openqa.selenium.By;
 public class MenPageElements {
 
     // ===== Product Grid =====
+    @Matches(Matches.Count.MANY)
     public static final By MEN_PRODUCTS =
             By.cssSelector("div.category-products ul.products-grid li.item");
 
+    @Matches(Matches.Count.MANY)
+    public static final By PRODUCT_NAME =
+            By.cssSelector("h2.product-name a"); // Names visual baselines per product
+
     // ===== Filtering =====
 
     // Color filter -> Black (left filtering panel)
@@ -21,6 +26,11 @@ public class MenPageElements {
             By.xpath("//dt[normalize-space()='Color']/following-sibling::dd[1]" +
                     "//img[@alt='Black']/ancestor::a[1]");
 
+    // Black swatch inside a product card (visual element carrying the selection border)
+    @Matches(Matches.Count.MANY)
+    public static final By PRODUCT_BLACK_SWATCH =
+            By.cssSelector("ul.configurable-swatch-list li.option-black a.swatch-link");
+
     // Price filter -> $0.00 - $99.99 (matches link containing price=-100)
 
     public static final By PRICE_FILTER_0_99 =
@@ -13,14 +13,25 @@ public class SalePageElements {
             By.cssSelector("div.page-title h1");
 
     // ===== Product Grid =====
+    @Matches(Matches.Count.MANY)
     public static final By SALE_PRODUCTS =
             By.cssSelector("div.category-products ul.products-grid li.item");
 
+    @Matches(Matches.Count.MANY)
+    public static final By PRODUCT_NAME =
+            By.cssSelector("h2.product-name a"); // Names visual baselines per product
+
     // ===== Pricing =====
+    @Matches(Matches.Count.MANY)
+    public static final By PRICE_BOX =
+            By.cssSelector("div.price-box"); // Old + special price together (visual baseline)
+
+    @Matches(Matches.Count.MANY)
     public static final By OLD_PRICE =
             By.cssSelector("p.old-price span.price"); // Original (strikethrough) price
 
     // Çmimi final (i zbritur)
+    @Matches(Matches.Count.MANY)
     public static final By SPECIAL_PRICE =
             By.cssSelector("p.special-price span.price"); // Final discounted price
 }
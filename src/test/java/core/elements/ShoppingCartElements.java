@@ -8,14 +8,17 @@ import org.openqa.selenium.By;
 public class ShoppingCartElements {
 
     // ===== Cart Table =====
+    @Matches(Matches.Count.MANY)
     public static final By CART_ROWS =
             By.cssSelector("table#shopping-cart-table tbody tr");
 
 
+    @Matches(Matches.Count.MANY)
     public static final By ROW_QTY_INPUT =
             By.cssSelector("input.qty"); // Qty input inside a single row
 
 
+    @Matches(Matches.Count.MANY)
     public static final By ROW_SUBTOTAL_PRICE =
             By.cssSelector("td.product-cart-total span.price"); // Line subtotal
 
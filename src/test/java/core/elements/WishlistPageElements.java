@@ -7,37 +7,52 @@ import org.openqa.selenium.By;
 public class WishlistPageElements {
 
     // ===== Wishlist Table =====
+    @Matches(Matches.Count.MANY)
     public static final By WISHLIST_ROWS =
             By.cssSelector("table#wishlist-table tbody tr");
     // Alias for row verification
+    @Matches(Matches.Count.MANY)
     public static final By WISHLIST_ITEMS = WISHLIST_ROWS;
 
     // "Add to Cart" within row
+    @Matches(Matches.Count.MANY)
     public static final By ROW_ADD_TO_CART_BUTTON =
             By.cssSelector("button.btn-cart");
 
     // ===== Configure Product (Fallback Option Locators) =====
 
     // Color swatches
+    @Matches(Matches.Count.MANY)
     public static final By COLOR_OPTIONS_PRIMARY =
             By.cssSelector("ul.configurable-swatch-list.configurable-swatch-color li a");
 
+    @Matches(Matches.Count.OPTIONAL)
     public static final By COLOR_OPTIONS_FALLBACK =
             By.cssSelector("ul.configurable-swatch-list li a");
 
     // Size swatches
+    @Matches(Matches.Count.MANY)
     public static final By SIZE_OPTIONS_PRIMARY =
             By.cssSelector("ul.configurable-swatch-list.configurable-swatch-size li a");
 
+    @Matches(Matches.Count.OPTIONAL)
     public static final By SIZE_OPTIONS_FALLBACK =
             By.cssSelector("ul.configurable-swatch-list li a"); // fallback by text (XS, S, M, ...)
 
 
+    // ===== Header =====
+    // Mini-cart counter (total quantity in the cart), present on every page
+    public static final By HEADER_CART_COUNT =
+            By.cssSelector("a.skip-cart span.count");
+
     // ===== Product Add to Cart (Fallback Order) =====
+    @Matches(value = Matches.Count.ONE, states = "configure")
     public static final By PRODUCT_ADD_TO_CART_BUTTON_PRIMARY =
-            By.cssSelector("button.btn-cart");
+            By.cssSelector("form#product_addtocart_form button.btn-cart");
+    @Matches(Matches.Count.OPTIONAL)
     public static final By PRODUCT_ADD_TO_CART_BUTTON_ALT_TITLE =
             By.cssSelector("button[title='Add to Cart']");
+    @Matches(Matches.Count.OPTIONAL)
     public static final By PRODUCT_ADD_TO_CART_BUTTON_ALT_ID =
             By.id("product-addtocart-button");
 }
@@ -7,18 +7,14 @@ import org.openqa.selenium.By;
  */
 public class WomenPageElements {
 
-    // ===== Hover Actions =====
-    public static final By LAST_PRODUCT_LI =
-            By.cssSelector("ul.products-grid li.item.last");
-
-    public static final By LAST_PRODUCT_ACTIONS =
-            By.cssSelector("ul.products-grid li.item.last div.actions");
-
     // ===== Product Grid =====
+    // CSS forms are also used directly by CDP hover checks (HoverState)
+    public static final String PRODUCT_CSS = "div.category-products ul.products-grid li.item";
+    public static final String PRODUCT_ACTIONS_CSS = "div.actions";
 
-
+    @Matches(Matches.Count.MANY)
     public static final By WOMEN_PRODUCTS =
-            By.cssSelector("div.category-products ul.products-grid li.item");
+            By.cssSelector(PRODUCT_CSS);
 
     // ===== Sorting Controls =====
     public static final By SORT_BY_SELECT =
@@ -28,11 +24,18 @@ public class WomenPageElements {
     public static final By SORT_DIRECTION_SWITCH =
             By.cssSelector("div.sort-by a.sort-by-switcher");
 
-    // Span of price inside product
+    // Span of price inside product (CSS form used for batched extraction, JsHelpers.texts)
+    public static final String PRODUCT_PRICE_CSS = "div.price-box span.price";
+
+    // Minimum advertised price cards ("Click for price"): the only card type listed without a price
+    public static final String PRODUCT_MAP_PRICE_CSS = "div.price-box.map-info, a.map-help-link";
+
+    @Matches(Matches.Count.MANY)
     public static final By PRODUCT_PRICE =
-            By.cssSelector("div.price-box span.price");
+            By.cssSelector(PRODUCT_PRICE_CSS);
 
     // Link "Add to Wishlist" inside product
+    @Matches(Matches.Count.MANY)
     public static final By PRODUCT_WISHLIST_LINK =
             By.cssSelector("a.link-wishlist");
 }
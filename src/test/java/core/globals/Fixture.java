@@ -0,0 +1,35 @@
+package core.globals;
+
+import java.lang.reflect.Method;
+
+/**
+ * Shared preconditions produced by one test and consumed by others.
+ * Declared on tests through @Fixtures and turned into TestNG group dependencies
+ * by FixtureDependencyTransformer.
+ */
+public enum Fixture {
+
+    // Globals.email() / password() are available (Test1, or a lease from the account pool)
+    REGISTERED_ACCOUNT,
+
+    // The registered account has items in its wishlist (Test6)
+    NON_EMPTY_WISHLIST,
+
+    // The registered account has items in its shopping cart (Test7)
+    NON_EMPTY_CART;
+
+    /**
+     * TestNG group carried by the test that provides this fixture.
+     */
+    public String group() {
+        return "fixture." + name().toLowerCase();
+    }
+
+    /**
+     * @Fixtures declaration of a test method (method first, then its class), or null if it has none.
+     */
+    public static Fixtures declaredOn(Method testMethod) {
+        Fixtures fixtures = testMethod.getAnnotation(Fixtures.class);
+        return fixtures != null ? fixtures : testMethod.getDeclaringClass().getAnnotation(Fixtures.class);
+    }
+}
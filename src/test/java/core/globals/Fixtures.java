@@ -0,0 +1,26 @@
+package core.globals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which shared fixtures a test needs and which ones it leaves behind.
+ * A test starts as soon as every required fixture has been provided by a passing test;
+ * if a provider fails, only the tests requiring its fixture are skipped.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Fixtures {
+
+    Fixture[] requires() default {};
+
+    Fixture[] provides() default {};
+
+    /**
+     * Required fixtures the test builds for itself through FixtureSeeder when fixtureSeeding=http;
+     * in that mode the dependency on their provider is dropped.
+     */
+    Fixture[] seededOverHttp() default {};
+}
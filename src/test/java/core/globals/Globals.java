@@ -2,10 +2,50 @@ package core.globals;
 /**
  * Global runtime variables shared between tests.
  * Used for cross-test communication (e.g. storing registered credentials).
+ * Written by the test providing Fixture.REGISTERED_ACCOUNT, read by tests that require it.
+ * With the account pool, each test thread uses the account it leased instead (see AccountPool).
  */
 public class Globals {
 
     // Email/password generated and stored during registration flows
-    public static String registeredEmail;
-    public static String registeredPassword;
+    // (volatile: dependants may run on other worker threads)
+    public static volatile String registeredEmail;
+    public static volatile String registeredPassword;
+    // Full name the account was registered with (what the welcome banner shows)
+    public static volatile String registeredName;
+
+    // Account leased by the test running on this thread; wins over the fields above
+    private static final ThreadLocal<String[]> leasedAccount = new ThreadLocal<>();
+
+    public static void useLeasedAccount(String email, String password, String name) {
+        leasedAccount.set(new String[]{email, password, name});
+    }
+
+    public static void clearLeasedAccount() {
+        leasedAccount.remove();
+    }
+
+    /**
+     * Email of the account this thread's test should sign in with.
+     */
+    public static String email() {
+        String[] leased = leasedAccount.get();
+        return leased != null ? leased[0] : registeredEmail;
+    }
+
+    /**
+     * Password of the account this thread's test should sign in with.
+     */
+    public static String password() {
+        String[] leased = leasedAccount.get();
+        return leased != null ? leased[1] : registeredPassword;
+    }
+
+    /**
+     * Full name of the account this thread's test signs in with, as the welcome banner shows it.
+     */
+    public static String fullName() {
+        String[] leased = leasedAccount.get();
+        return leased != null ? leased[2] : registeredName;
+    }
 }
@@ -0,0 +1,25 @@
+package core.globals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares whether a test needs a real rendering engine.
+ * DOM_ONLY tests (forms, counters, totals) may run on the in-JVM HtmlUnit driver;
+ * VISUAL tests (hover styles, computed CSS, pixel baselines) always run on Chrome.
+ * Tests without the annotation are treated as VISUAL.
+ * CSS animations and transitions are suppressed for every test (see MotionSuppression);
+ * tests that assert on motion itself opt out with motion = true.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Rendering {
+
+    Mode value();
+
+    boolean motion() default false;
+
+    enum Mode { DOM_ONLY, VISUAL }
+}
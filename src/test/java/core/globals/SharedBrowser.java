@@ -0,0 +1,17 @@
+package core.globals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test whose checks only read storefront state (styling, filter results, sort order)
+ * and may therefore run in its own tab of one shared, already signed-in Chrome (see TabScheduler)
+ * instead of launching a browser and signing in on its own. Only used when tabSchedulerEnabled=true.
+ * Tests that change account state (wishlist, cart) or provide a fixture must not be marked.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SharedBrowser {
+}
@@ -0,0 +1,34 @@
+package core.listeners;
+
+import core.utilities.AccountPool;
+import core.utilities.AutHealth;
+import core.utilities.Log;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG suite listener — when accountPoolEnabled=true, makes sure the account pool is provisioned
+ * before the suite starts, so tests requiring Fixture.REGISTERED_ACCOUNT no longer wait for Test1.
+ * Each test leases its own account from the pool (see BaseTest / AccountPool); leases still handed
+ * over to a dependant that never ran are released at suite end.
+ */
+public class AccountPoolListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Registering accounts against an unhealthy AUT would only hang; the tests are skipped anyway
+        if (!AccountPool.isEnabled() || AutHealth.isOpen()) {
+            return;
+        }
+
+        AccountPool.provision(AccountPool.targetSize());
+        Log.info("Account pool: " + AccountPool.targetSize() + " llogari gati");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (AccountPool.isEnabled()) {
+            AccountPool.releaseAll();
+        }
+    }
+}
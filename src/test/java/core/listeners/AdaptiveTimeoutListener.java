@@ -0,0 +1,29 @@
+package core.listeners;
+
+import core.utilities.AdaptiveTimeouts;
+import core.utilities.Log;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.List;
+
+/**
+ * TestNG suite listener — persists the wait latencies collected by AdaptiveWait at suite end
+ * and prints the wait sites that are drifting slower over time.
+ */
+public class AdaptiveTimeoutListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!AdaptiveTimeouts.isEnabled()) {
+            return;
+        }
+        AdaptiveTimeouts.flush();
+
+        List<String> drifting = AdaptiveTimeouts.driftReport();
+        if (!drifting.isEmpty()) {
+            Log.info("Wait sites që po ngadalësohen:");
+            drifting.forEach(line -> Log.info("  " + line));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package core.listeners;
+
+import core.utilities.AutHealth;
+import org.openqa.selenium.TimeoutException;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener — runs the AUT preflight (AutHealth) before anything else touches the site,
+ * and re-probes the AUT whenever a test fails on a WebDriver timeout.
+ * Registered in testng.xml before AccountPoolListener (suite listeners start in that order), so the account
+ * pool is not provisioned against a dead AUT; the listeners before it do not touch the site.
+ */
+public class AutHealthListener implements ISuiteListener, ITestListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        AutHealth.preflight();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        for (Throwable t = result.getThrowable(); t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException) {
+                AutHealth.recheck(result.getMethod().getRealClass().getSimpleName());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package core.listeners;
+
+import core.utilities.BrowserLifecycle;
+import core.utilities.ProcessReaper;
+import core.utilities.ResourceGovernor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener — at suite start kills the chromedriver/Chrome trees recorded by earlier JVMs that died (see ProcessReaper);
+ * at suite end quits the pre-spawned browsers no test took
+ * and waits for the background quits, so no Chrome outlives the run (see BrowserLifecycle),
+ * then publishes the browser concurrency/memory metrics (see ResourceGovernor).
+ */
+public class BrowserLifecycleListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        ProcessReaper.reapOrphans();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (BrowserLifecycle.isEnabled()) {
+            BrowserLifecycle.shutdown();
+        }
+        ResourceGovernor.report();
+    }
+}
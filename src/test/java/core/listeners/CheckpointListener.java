@@ -0,0 +1,51 @@
+package core.listeners;
+
+import core.globals.Fixture;
+import core.globals.Fixtures;
+import core.utilities.SuiteCheckpoint;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * TestNG listener — writes a SuiteCheckpoint after every passing test and, on a failure,
+ * drops the fixtures the test may have consumed. On a resumed run with the account pool, the
+ * checkpointed account is leased again and handed to the tests consuming its fixtures (see SuiteCheckpoint).
+ */
+public class CheckpointListener implements ISuiteListener, ITestListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        SuiteCheckpoint.begin();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        Fixtures fixtures = Fixture.declaredOn(method(result.getMethod()));
+        SuiteCheckpoint.passed(testId(result.getMethod()),
+                fixtures == null ? List.of() : List.of(fixtures.provides()));
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Fixtures fixtures = Fixture.declaredOn(method(result.getMethod()));
+        if (fixtures == null) {
+            return;
+        }
+        SuiteCheckpoint.failed(List.of(fixtures.requires()));
+    }
+
+    private static Method method(ITestNGMethod m) {
+        return m.getConstructorOrMethod().getMethod();
+    }
+
+    // Same id as FixtureDependencyTransformer uses to disable passed tests on resume
+    private static String testId(ITestNGMethod m) {
+        return m.getRealClass().getName() + "." + m.getMethodName();
+    }
+}
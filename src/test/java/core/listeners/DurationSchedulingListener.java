@@ -0,0 +1,65 @@
+package core.listeners;
+
+import core.utilities.TestHistoryStore;
+import core.utilities.Log;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TestNG listener — records every test's duration/outcome in TestHistoryStore and,
+ * when the suite runs in parallel, hands tests to workers longest-first
+ * so long flows (e.g. Test7) do not start last and stretch the critical path.
+ * Tests without history get the configured default estimate.
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, ITestListener {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        // Sequential runs keep declaration order: the suite chain (Test1 -> Test8) relies on it
+        if (context.getSuite().getXmlSuite().getParallel() == XmlSuite.ParallelMode.NONE) {
+            return methods;
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong(
+                (IMethodInstance m) -> TestHistoryStore.estimateMillis(m.getMethod().getQualifiedName())
+        ).reversed());
+
+        for (IMethodInstance m : ordered) {
+            Log.info("Schedule: " + m.getMethod().getQualifiedName() + " ~"
+                    + TestHistoryStore.estimateMillis(m.getMethod().getQualifiedName()) + " ms");
+        }
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        TestHistoryStore.record(
+                result.getMethod().getQualifiedName(),
+                result.getEndMillis() - result.getStartMillis(),
+                result.getStatus()
+        );
+    }
+}
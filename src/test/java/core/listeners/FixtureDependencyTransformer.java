@@ -0,0 +1,69 @@
+package core.listeners;
+
+import core.globals.Fixture;
+import core.globals.Fixtures;
+import core.utilities.AccountPool;
+import core.utilities.FixtureSeeder;
+import core.utilities.SuiteCheckpoint;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * TestNG annotation transformer — turns @Fixtures declarations into groups / dependsOnGroups,
+ * so TestNG's own dependency graph schedules the suite: independent branches run concurrently
+ * (parallel="methods"), dependants start when their providers pass, and a failed provider
+ * skips only its dependants.
+ */
+public class FixtureDependencyTransformer implements IAnnotationTransformer {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (testMethod == null) {
+            return;
+        }
+
+        Fixtures fixtures = Fixture.declaredOn(testMethod);
+        if (fixtures == null) {
+            return;
+        }
+
+        // Resume mode: tests that passed in the checkpointed run are not run again
+        String testId = testMethod.getDeclaringClass().getName() + "." + testMethod.getName();
+        if (SuiteCheckpoint.isResume() && SuiteCheckpoint.canSkip(testId, List.of(fixtures.provides()))) {
+            annotation.setEnabled(false);
+        }
+
+        Set<String> groups = new LinkedHashSet<>(List.of(annotation.getGroups()));
+        for (Fixture provided : fixtures.provides()) {
+            groups.add(provided.group());
+        }
+        annotation.setGroups(groups.toArray(new String[0]));
+
+        Set<Fixture> seeded = FixtureSeeder.isEnabled() ? Set.of(fixtures.seededOverHttp()) : Set.of();
+
+        Set<String> dependsOn = new LinkedHashSet<>(List.of(annotation.getDependsOnGroups()));
+        for (Fixture required : fixtures.requires()) {
+            // A leased pool account is available before any test starts (see AccountPoolListener)
+            if (required == Fixture.REGISTERED_ACCOUNT && AccountPool.isEnabled()) {
+                continue;
+            }
+            // The test seeds this state itself over HTTP (see FixtureSeeder)
+            if (seeded.contains(required)) {
+                continue;
+            }
+            // Already provided by the checkpointed run
+            if (SuiteCheckpoint.isResume() && SuiteCheckpoint.isProvided(required)) {
+                continue;
+            }
+            dependsOn.add(required.group());
+        }
+        annotation.setDependsOnGroups(dependsOn.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,41 @@
+package core.listeners;
+
+import core.utilities.LocatorProfile;
+import core.utilities.Log;
+import org.testng.IReporter;
+import org.testng.ISuite;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * TestNG reporter — adds the locator cost ranking (LocatorProfile) to the run report:
+ * locator-profile.txt next to TestNG's own reports, and the console.
+ */
+public class LocatorProfileReporter implements IReporter {
+
+    private static final int TOP = 30;
+
+    @Override
+    public void generateReport(List<XmlSuite> xmlSuites, List<ISuite> suites, String outputDirectory) {
+        if (!LocatorProfile.isEnabled()) {
+            return;
+        }
+
+        List<String> lines = LocatorProfile.report(TOP);
+        Log.info("Locator profile (top " + TOP + " sipas kohës totale):");
+        lines.forEach(Log::info);
+
+        Path file = Path.of(outputDirectory, "locator-profile.txt");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Log.error("Locator profile nuk u ruajt: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package core.listeners;
+
+import core.utilities.LocatorProfile;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WebDriver listener — times every findElement / findElements (driver- and element-scoped)
+ * and records it in LocatorProfile under the calling page-object site ("WishlistPage.configureProductAndAddToCart:247").
+ * Lookups that fail (NoSuchElement while a wait polls) are recorded too, with 0 matches.
+ */
+public class LocatorProfilerListener implements WebDriverListener {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    // One browser per thread, and lookups are not nested
+    private long startNanos;
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        record(locator, 1);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        record(locator, result.size());
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        record(locator, 1);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        record(locator, result.size());
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getName().startsWith("findElement") && args != null && args.length == 1 && args[0] instanceof By) {
+            record((By) args[0], 0);
+        }
+    }
+
+    private void record(By locator, int matched) {
+        long nanos = System.nanoTime() - startNanos;
+        Optional<String> site = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("core.pages.") || f.getClassName().startsWith("core.tests."))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber()));
+        LocatorProfile.record(site.orElse("other"), locator, nanos, matched);
+    }
+}
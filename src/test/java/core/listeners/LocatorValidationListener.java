@@ -0,0 +1,35 @@
+package core.listeners;
+
+import core.utilities.ConfigurationReader;
+import core.utilities.LocatorValidator;
+import core.utilities.Log;
+import core.utilities.PageSnapshots;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG suite listener — validates all core.elements locators against the stored page snapshots
+ * before any browser starts. With locatorValidationFailFast=true a missing or ambiguous locator
+ * stops the run right there instead of surfacing later as a timeout.
+ */
+public class LocatorValidationListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigurationReader.getBoolean("locatorValidationEnabled", true)) {
+            return;
+        }
+
+        LocatorValidator.Report report = LocatorValidator.validate();
+        LocatorValidator.print(report);
+        if (report.isEmpty()) {
+            Log.warn("Locator validation nuk kontrolloi asgjë: mungojnë page snapshots. "
+                    + "Regjistroji me -DpageSnapshotCapture=true dhe commit-o " + PageSnapshots.dir());
+        }
+
+        if (report.hasBrokenLocators() && ConfigurationReader.getBoolean("locatorValidationFailFast", false)) {
+            throw new IllegalStateException("Locator validation dështoi: "
+                    + report.missing.size() + " missing, " + report.ambiguous.size() + " ambiguous");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package core.listeners;
+
+import core.utilities.StepRetry;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * TestNG listener — gives every test a fresh StepRetry budget and puts the step retries
+ * it used (count and time) into the test result attributes and the TestNG report.
+ */
+public class StepRetryListener implements ITestListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        StepRetry.begin();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        report(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        report(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        report(result);
+    }
+
+    private void report(ITestResult result) {
+        StepRetry.Stats stats = StepRetry.end();
+        if (stats.getRetries() == 0) {
+            return;
+        }
+        result.setAttribute("stepRetries", stats.getRetries());
+        result.setAttribute("stepRetryMillis", stats.getMillis());
+        Reporter.log("Step retries: " + stats.getRetries() + " (" + stats.getMillis() + " ms)", true);
+    }
+}
@@ -0,0 +1,40 @@
+package core.listeners;
+
+import core.utilities.RingBuffer;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.time.LocalTime;
+import java.util.Optional;
+
+/**
+ * WebDriver listener — remembers the last page-object steps (e.g. "WishlistPage.addFirstNProductsToCart")
+ * that issued browser commands, so a failure bundle can show what the test was doing.
+ */
+public class StepTrailListener implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = "core.pages.";
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final RingBuffer<String> steps;
+    private String lastStep;
+
+    public StepTrailListener(RingBuffer<String> steps) {
+        this.steps = steps;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        // Nearest page-object frame on the stack; consecutive calls from the same step are recorded once
+        Optional<String> step = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(PAGES_PACKAGE))
+                .findFirst()
+                .map(f -> f.getClassName().substring(PAGES_PACKAGE.length()) + "." + f.getMethodName()));
+
+        if (step.isPresent() && !step.get().equals(lastStep)) {
+            lastStep = step.get();
+            steps.add(LocalTime.now() + "  " + lastStep);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package core.listeners;
+
+import core.utilities.TabScheduler;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener — quits the browser shared by @SharedBrowser tabs once the suite is done
+ * (each test only closes its own tab, see TabScheduler).
+ */
+public class TabSchedulerListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TabScheduler.shutdown();
+    }
+}
@@ -1,6 +1,11 @@
 package core.listeners;
 
+import core.utilities.ConfigurationReader;
 import core.utilities.DriverFactory;
+import core.utilities.ForensicsBundle;
+import core.utilities.ScreencastRecorder;
+import core.utilities.Log;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import org.openqa.selenium.OutputType;
@@ -9,11 +14,13 @@ import org.openqa.selenium.TakesScreenshot;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
 /**
- * TestNG listener — captures a screenshot when a test fails.
+ * TestNG listener — captures a screenshot, the recent screencast and a forensics bundle
+ * (DOM, console, network, cookies, steps) when a test fails.
  */
 
 public class TestListener implements ITestListener {
@@ -21,22 +28,72 @@ public class TestListener implements ITestListener {
     @Override
     public void onTestFailure(ITestResult result) {
 
-        File src = ((TakesScreenshot) DriverFactory.getDriver())
-                .getScreenshotAs(OutputType.FILE);
-
         // Generate timestamped file name
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String fileName = result.getName() + "_" + timestamp + ".png";
+        String baseName = result.getName() + "_" + timestamp;
+
+        // The in-JVM driver (DOM-only tests) renders nothing to capture
+        if (DriverFactory.getDriver() instanceof TakesScreenshot) {
+            File src = ((TakesScreenshot) DriverFactory.getDriver())
+                    .getScreenshotAs(OutputType.FILE);
+            String fileName = baseName + ".png";
+
+            // Save under /screenshots/
+            File dest = new File("screenshots/" + fileName);
+            dest.getParentFile().mkdirs();
+
+            try {
+                Files.copy(src.toPath(), dest.toPath());
+                Log.info("📸 Screenshot saved: " + dest.getAbsolutePath());
+            } catch (IOException e) {
+                Log.error("Screenshot nuk u ruajt: " + dest.getAbsolutePath(), e);
+            }
+        }
+
+        saveScreencast(baseName);
+        saveForensics(result, baseName);
+    }
+
+    /**
+     * Flushes the last seconds of the screencast ring next to the screenshot.
+     */
+    private void saveScreencast(String baseName) {
+        ScreencastRecorder recorder = DriverFactory.getScreencastRecorder();
+        if (recorder == null) {
+            return;
+        }
 
-        // Save under /screenshots/
-        File dest = new File("screenshots/" + fileName);
-        dest.getParentFile().mkdirs();
+        Path clip = Path.of("screenshots", baseName + ".mjpeg");
+        try {
+            int frames = recorder.flushTo(clip);
+            Log.info("🎞 Screencast saved (" + frames + " frames): " + clip.toAbsolutePath());
+        } catch (IOException e) {
+            Log.error("Screencast nuk u ruajt: " + clip.toAbsolutePath(), e);
+        }
+    }
 
+    /**
+     * Streams DOM, console, network log, cookies, URL and last steps into one zip.
+     */
+    private void saveForensics(ITestResult result, String baseName) {
+        if (!ConfigurationReader.getBoolean("forensicsEnabled", false)) {
+            return;
+        }
+
+        Path bundle = Path.of("screenshots", baseName + "_forensics.zip");
         try {
-            Files.copy(src.toPath(), dest.toPath());
-            System.out.println("📸 Screenshot saved: " + dest.getAbsolutePath());
+            ForensicsBundle.write(bundle, DriverFactory.getSession(), result.getThrowable());
+            Log.info("🧾 Forensics bundle saved: " + bundle.toAbsolutePath());
         } catch (IOException e) {
-            e.printStackTrace();
+            Log.error("Forensics bundle nuk u ruajt: " + bundle.toAbsolutePath(), e);
         }
     }
+
+    /**
+     * Writes out the buffered log before TestNG prints its summary.
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        Log.flush();
+    }
 }
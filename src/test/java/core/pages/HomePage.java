@@ -1,7 +1,10 @@
 package core.pages;
 
 import core.elements.HomePageElements;
-import org.openqa.selenium.JavascriptExecutor;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
+import core.utilities.Log;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
@@ -20,7 +23,7 @@ public class HomePage {
 
     public HomePage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
         this.actions = new Actions(driver);
     }
 
@@ -40,7 +43,7 @@ public class HomePage {
                 return; // success, get out of method
 
             } catch (StaleElementReferenceException e) {
-                System.out.println("StaleElement te account menu (attempt "
+                Log.warn("StaleElement te account menu (attempt "
                         + attempt + "), po provoj përsëri...");
                 // loop vazhdon, në attempt tjetër do ta gjejë elementin nga e para
             }
@@ -51,12 +54,14 @@ public class HomePage {
 
     public void goToRegister() {
         openAccountMenu();
+        PageSnapshots.capture(driver, HomePageElements.class, "guest");
         wait.until(ExpectedConditions.elementToBeClickable(HomePageElements.REGISTER_LINK))
                 .click();
     }
 
     public void goToSignIn() {
         openAccountMenu();
+        PageSnapshots.capture(driver, HomePageElements.class, "guest");
         wait.until(ExpectedConditions.elementToBeClickable(HomePageElements.SIGN_IN_LINK))
                 .click();
     }
@@ -67,6 +72,14 @@ public class HomePage {
                 .click();
     }
 
+    /**
+     * Immediate check (no wait) whether this browser already has a signed-in session,
+     * e.g. a tab of the shared browser (see TabScheduler).
+     */
+    public boolean hasSignedInSession() {
+        return !driver.findElements(HomePageElements.LOG_OUT_HREF).isEmpty();
+    }
+
     // ================== WELCOME MESSAGE ==================
 
     public String getWelcomeMessage() {
@@ -89,7 +102,11 @@ public class HomePage {
             if (text == null) return false;
 
             String lower = text.toLowerCase();
-            return lower.contains("welcome");
+            boolean loggedIn = lower.contains("welcome");
+            if (loggedIn) {
+                PageSnapshots.capture(driver, HomePageElements.class, "logged-in");
+            }
+            return loggedIn;
         } catch (TimeoutException e) {
             return false;
         } catch (Exception e) {
@@ -138,16 +155,16 @@ public class HomePage {
                 ExpectedConditions.elementToBeClickable(HomePageElements.SALE_MENU)
         );
 
-        System.out.println("URL PARA klikimit te SALE: " + driver.getCurrentUrl());
+        Log.debug(() -> "URL PARA klikimit te SALE: " + driver.getCurrentUrl());
 
         try {
             saleMenu.click();
         } catch (Exception ex) {
-            System.out.println("Click normal te 'SALE' deshtoi, po provoj me JavaScript...");
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", saleMenu);
+            Log.warn("Click normal te 'SALE' deshtoi, po provoj me JavaScript...");
+            JsHelpers.click(driver, saleMenu);
         }
 
-        System.out.println("URL PAS klikimit te SALE: " + driver.getCurrentUrl());
+        Log.debug(() -> "URL PAS klikimit te SALE: " + driver.getCurrentUrl());
     }
 
     // ================== WISHLIST ==================
@@ -204,7 +221,7 @@ public class HomePage {
                 // if we reach here, the expected text was found
                 return;
             } catch (org.openqa.selenium.TimeoutException e) {
-                System.out.println("My Wishlist s'u be " + expectedSuffix +
+                Log.warn("My Wishlist s'u be " + expectedSuffix +
                         " ne attempt " + attempt + ", po provoj përsëri...");
                 // dropdown-i closes when we click somewhere else, but we
                 // just try once again on the other iteration
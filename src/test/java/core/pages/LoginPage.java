@@ -1,6 +1,9 @@
 package core.pages;
 
 import core.elements.LoginPageElements;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -18,7 +21,7 @@ public class LoginPage {
 
     public LoginPage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
     /**
      * Returns the header/title text displayed on the Login page.
@@ -38,6 +41,7 @@ public class LoginPage {
 
         // Populate email
         wait.until(ExpectedConditions.visibilityOfElementLocated(LoginPageElements.EMAIL)).clear();
+        PageSnapshots.capture(driver, LoginPageElements.class, "form");
         driver.findElement(LoginPageElements.EMAIL).sendKeys(email);
 
         // Populate password
@@ -52,14 +56,12 @@ public class LoginPage {
 
         // Scroll into view to avoid click interception issues
 
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center'});", loginBtn);
+        JsHelpers.scrollIntoView(driver, loginBtn);
 
         wait.until(ExpectedConditions.elementToBeClickable(loginBtn));
 
         // Click via JavaScript as a reliable fallback
 
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-                .executeScript("arguments[0].click();", loginBtn);
+        JsHelpers.click(driver, loginBtn);
     }
 }
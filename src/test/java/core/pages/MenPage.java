@@ -3,6 +3,10 @@
 package core.pages;
 
 import core.elements.MenPageElements;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
+import core.utilities.Log;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -19,7 +23,7 @@ public class MenPage {
 
     public MenPage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait  = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait  = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
 
     /**
@@ -28,6 +32,7 @@ public class MenPage {
     public void waitForPageToLoad() {
         wait.until(ExpectedConditions.urlContains("/men.html"));
         wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(MenPageElements.MEN_PRODUCTS));
+        PageSnapshots.capture(driver, MenPageElements.class, "grid");
     }
 
     /**
@@ -48,8 +53,7 @@ public class MenPage {
         WebElement blackFilter = wait.until(
                 ExpectedConditions.elementToBeClickable(MenPageElements.COLOR_FILTER_BLACK)
         );
-        ((JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center'});", blackFilter);
+        JsHelpers.scrollIntoView(driver, blackFilter);
         blackFilter.click();
 
         // After applying filter, URL refreshes: men.html?color=20
@@ -69,7 +73,7 @@ public class MenPage {
         if (candidates.isEmpty()) {
             // Filtering already applied or unavailable. Continue without click.
 
-            System.out.println(
+            Log.warn(
                     "Price $0.00 - $99.99 nuk u gjet në panel (ndoshta faqja është tashmë e filtruar). " +
                             "Po vazhdoj me produktet ekzistuese pa klikim."
             );
@@ -81,8 +85,7 @@ public class MenPage {
                 ExpectedConditions.elementToBeClickable(MenPageElements.PRICE_FILTER_0_99)
         );
 
-        ((JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center'});", priceFilter);
+        JsHelpers.scrollIntoView(driver, priceFilter);
 
         priceFilter.click();
 
@@ -137,6 +140,20 @@ public class MenPage {
         }
     }
 
+    /**
+     * Returns the product name shown on the card (used to name visual baselines).
+     */
+    public String getProductName(WebElement product) {
+        return product.findElement(MenPageElements.PRODUCT_NAME).getText().trim();
+    }
+
+    /**
+     * Returns the Black swatch link of a product card, used for visual checks.
+     */
+    public WebElement getBlackSwatch(WebElement product) {
+        return product.findElement(MenPageElements.PRODUCT_BLACK_SWATCH);
+    }
+
     /**
      * Returns price as double (parsed from $ format).
      */
@@ -153,7 +170,7 @@ public class MenPage {
         for (WebElement product : products) {
             double price = getProductPrice(product);
             if (price < min || price > max) {
-                System.out.println("PRODUCT OUT OF RANGE: " + price);
+                Log.warn("PRODUCT OUT OF RANGE: " + price);
                 return false;
             }
         }
@@ -1,6 +1,10 @@
 package core.pages;
 
 import core.elements.RegisterPageElements;
+import core.utilities.TestDataGenerator;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -19,7 +23,7 @@ public class RegisterPage {
 
     public RegisterPage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
     /**
      * Returns the page title text from the Register page.
@@ -30,17 +34,18 @@ public class RegisterPage {
     }
 
     /**
-     * Generates a unique email based on current timestamp.
-     * Useful for avoiding duplicate account issues in tests.
+     * Generates a unique email (node + worker + sequence, see TestDataGenerator).
+     * Useful for avoiding duplicate account issues in tests, also when registering in parallel.
      */
     public String generateUniqueEmail() {
-        return "testuser_" + System.currentTimeMillis() + "@gmail.com";
+        return TestDataGenerator.email();
     }
     /**
      * Fills the registration form fields with provided data.
      */
     public void fillRegisterForm(String firstName, String middleName, String lastName, String email, String password) {
         wait.until(ExpectedConditions.visibilityOfElementLocated(RegisterPageElements.FIRST_NAME)).sendKeys(firstName);
+        PageSnapshots.capture(driver, RegisterPageElements.class, "form");
         driver.findElement(RegisterPageElements.MIDDLE_NAME).sendKeys(middleName);
         driver.findElement(RegisterPageElements.LAST_NAME).sendKeys(lastName);
         driver.findElement(RegisterPageElements.EMAIL).sendKeys(email);
@@ -55,15 +60,13 @@ public class RegisterPage {
         WebElement btn = wait.until(ExpectedConditions.visibilityOfElementLocated(RegisterPageElements.REGISTER_BUTTON));
 
         // Ensure the button is in viewport before interacting
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
+        JsHelpers.scrollIntoView(driver, btn);
 
         // Wait until the button is clickable
         wait.until(ExpectedConditions.elementToBeClickable(btn));
 
         // Click via JavaScript to avoid interception/overlay issues
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-                .executeScript("arguments[0].click();", btn);
+        JsHelpers.click(driver, btn);
     }
 
     /**
@@ -71,6 +74,7 @@ public class RegisterPage {
      */
     public String getSuccessMessage() {
         WebElement msg = wait.until(ExpectedConditions.visibilityOfElementLocated(RegisterPageElements.SUCCESS_MESSAGE));
+        PageSnapshots.capture(driver, RegisterPageElements.class, "success");
         return msg.getText().trim();
     }
 }
@@ -1,6 +1,10 @@
 package core.pages;
 
 import core.elements.SalePageElements;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
+import core.utilities.Log;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -18,7 +22,7 @@ public class SalePage {
 
     public SalePage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
 
     /**
@@ -27,7 +31,7 @@ public class SalePage {
     public void waitForPageToLoad() {
 
         // Debug information: log current URL
-        System.out.println("URL AKTUALE: " + driver.getCurrentUrl());
+        Log.debug(() -> "URL AKTUALE: " + driver.getCurrentUrl());
 
         try {
             wait.until(ExpectedConditions.or(
@@ -45,6 +49,7 @@ public class SalePage {
                     e
             );
         }
+        PageSnapshots.capture(driver, SalePageElements.class, "grid");
     }
 
     /**
@@ -62,8 +67,7 @@ public class SalePage {
 
         // 3) Scroll to the first product to ensure visibility
         if (!products.isEmpty()) {
-            ((JavascriptExecutor) driver)
-                    .executeScript("arguments[0].scrollIntoView({block:'center'});", products.get(0));
+            JsHelpers.scrollIntoView(driver, products.get(0));
         }
 
         // 4) Wait for products to be visible
@@ -71,7 +75,7 @@ public class SalePage {
                 ExpectedConditions.visibilityOfAllElementsLocatedBy(SalePageElements.SALE_PRODUCTS)
         );
 
-        System.out.println("U gjetën " + products.size() + " produkte në faqen e Sale.");
+        Log.debug("U gjetën " + products.size() + " produkte në faqen e Sale.");
         return products;
     }
 
@@ -89,6 +93,20 @@ public class SalePage {
         return product.findElement(SalePageElements.SPECIAL_PRICE);
     }
 
+    /**
+     * Returns the product name shown on the card (used to name visual baselines).
+     */
+    public String getProductName(WebElement product) {
+        return product.findElement(SalePageElements.PRODUCT_NAME).getText().trim();
+    }
+
+    /**
+     * Returns the price box (old + special price) of the given product, used for visual checks.
+     */
+    public WebElement getPriceBox(WebElement product) {
+        return product.findElement(SalePageElements.PRICE_BOX);
+    }
+
     /**
      * Checks if the given product has both old and special prices visible.
      */
@@ -1,6 +1,10 @@
 package core.pages;
 
 import core.elements.ShoppingCartElements; // nëse s’e përdor, mund ta heqësh
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.JsHelpers;
+import core.utilities.Log;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -9,6 +13,7 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object for the Shopping Cart page.
@@ -21,7 +26,7 @@ public class ShoppingCartPage {
 
     public ShoppingCartPage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
 
     // ================== BASIC HELPERS ==================
@@ -37,6 +42,7 @@ public class ShoppingCartPage {
     /** Public wrapper used by tests to ensure cart page is loaded. */
     public void waitForCartToLoad() {
         waitForCartPageInternal();
+        PageSnapshots.capture(driver, ShoppingCartElements.class, "cart");
     }
 
     /** Returns all row elements in the cart table. */
@@ -54,7 +60,7 @@ public class ShoppingCartPage {
     public void setQuantityForFirstItemTo2AndUpdate() {
         List<WebElement> rows = getCartRows();
         if (rows.isEmpty()) {
-            System.out.println("Cart është bosh – nuk u gjet asnjë rresht produkti.");
+            Log.info("Cart është bosh – nuk u gjet asnjë rresht produkti.");
             throw new RuntimeException("S'ka produkte në cart!");
         }
 
@@ -107,13 +113,12 @@ public class ShoppingCartPage {
 
     public double getSumOfAllSubtotals() {
         waitForCartPageInternal();
-        List<WebElement> subtotalEls = driver.findElements(
-                By.cssSelector("table#shopping-cart-table tbody tr td.product-cart-total span.price")
-        );
+        // Whole cart read in one script call (see JsHelpers.cartSnapshot)
+        List<Map<String, Object>> rows = cartRows();
 
         double sum = 0.0;
-        for (WebElement el : subtotalEls) {
-            String txt = el.getText().replace("$", "").trim();
+        for (Map<String, Object> row : rows) {
+            String txt = ((String) row.get("subtotal")).replace("$", "").trim();
             if (!txt.isEmpty()) {
                 sum += Double.parseDouble(txt);
             }
@@ -127,19 +132,22 @@ public class ShoppingCartPage {
     public double getGrandTotal() {
         waitForCartPageInternal();
 
-        // Take the last price element from the totals table
-        List<WebElement> totalPriceEls = driver.findElements(
-                By.cssSelector("table#shopping-cart-totals-table span.price")
-        );
+        // Last price of the totals table, read together with the rows in one script call
+        Map<String, Object> cart = JsHelpers.cartSnapshot(driver);
+        String txt = cart == null ? "" : ((String) cart.get("grandTotal")).replace("$", "").trim();
 
-        if (totalPriceEls.isEmpty()) {
+        if (txt.isEmpty()) {
             throw new RuntimeException("Nuk u gjet asnjë element për Grand Total në cart!");
         }
-
-        WebElement last = totalPriceEls.get(totalPriceEls.size() - 1);
-        String txt = last.getText().replace("$", "").trim();
         return Double.parseDouble(txt);
     }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> cartRows() {
+        Map<String, Object> cart = JsHelpers.cartSnapshot(driver);
+        return cart == null ? List.of() : (List<Map<String, Object>>) cart.get("rows");
+    }
+
     /**
      * Returns number of product rows in the cart.
      * If table is not present (empty cart), returns 0.
@@ -173,15 +181,13 @@ public class ShoppingCartPage {
         );
 
         // 2) Scroll to center of viewport
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-                .executeScript("arguments[0].scrollIntoView({block:'center'});", deleteLink);
+        JsHelpers.scrollIntoView(driver, deleteLink);
 
         // 3) Try normal click, fallback to JS click if needed
         try {
             deleteLink.click();
         } catch (Exception e) {
-            ((org.openqa.selenium.JavascriptExecutor) driver)
-                    .executeScript("arguments[0].click();", deleteLink);
+            JsHelpers.click(driver, deleteLink);
         }
 
 
@@ -216,6 +222,7 @@ public class ShoppingCartPage {
             String titleText = title.getText().trim();
             String msgText   = msg.getText().toLowerCase();
 
+            PageSnapshots.capture(driver, ShoppingCartElements.class, "empty");
             return titleText.equalsIgnoreCase("Shopping Cart is Empty")
                     && msgText.contains("you have no items in your shopping cart");
         } catch (Exception e) {
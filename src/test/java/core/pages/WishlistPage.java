@@ -1,9 +1,13 @@
 package core.pages;
 
 import core.elements.WishlistPageElements;
+import core.utilities.AdaptiveWait;
+import core.utilities.PageSnapshots;
+import core.utilities.StepRetry;
+import core.utilities.JsHelpers;
+import core.utilities.Log;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
-import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
@@ -29,7 +33,7 @@ public class WishlistPage {
 
     public WishlistPage(WebDriver driver, int timeoutSeconds) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
     }
 
     /**
@@ -43,6 +47,7 @@ public class WishlistPage {
         wait.until(ExpectedConditions.presenceOfElementLocated(
                 By.cssSelector("table#wishlist-table")
         ));
+        PageSnapshots.capture(driver, WishlistPageElements.class, "list");
     }
 
     /**
@@ -65,10 +70,7 @@ public class WishlistPage {
      * Scrolls the given element into the center of the viewport.
      */
     private void scrollIntoViewCenter(WebElement element) {
-        ((JavascriptExecutor) driver).executeScript(
-                "arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});",
-                element
-        );
+        JsHelpers.scrollIntoView(driver, element);
     }
 
     /**
@@ -84,8 +86,8 @@ public class WishlistPage {
             wait.until(ExpectedConditions.elementToBeClickable(element));
             element.click();
         } catch (ElementClickInterceptedException e) {
-            System.out.println("Klikimi u interceptua, po provoj JS click...");
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+            Log.warn("Klikimi u interceptua, po provoj JS click...");
+            JsHelpers.click(driver, element);
         }
     }
 
@@ -106,11 +108,11 @@ public class WishlistPage {
             try {
                 e.click();
             } catch (ElementClickInterceptedException ex) {
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", e);
+                JsHelpers.click(driver, e);
             }
-            System.out.println("✅ " + label + " u zgjodh.");
+            Log.debug(() -> "✅ " + label + " u zgjodh.");
         } else {
-            System.out.println("⚠ Nuk u gjet " + label + " – po vazhdoj pa e zgjedhur.");
+            Log.warn("⚠ Nuk u gjet " + label + " – po vazhdoj pa e zgjedhur.");
         }
     }
 
@@ -130,11 +132,11 @@ public class WishlistPage {
                 if (options.size() > 1) {
                     // index 0 is usually "Choose an Option..."
                     select.selectByIndex(1);
-                    System.out.println("✅ U zgjodh opsioni i parë nga dropdown-i: "
+                    Log.debug(() -> "✅ U zgjodh opsioni i parë nga dropdown-i: "
                             + selectElem.getAttribute("id"));
                 }
             } catch (Exception e) {
-                System.out.println("⚠ Nuk u arrit të zgjidhet nga dropdown: "
+                Log.warn("⚠ Nuk u arrit të zgjidhet nga dropdown: "
                         + e.getMessage());
             }
         }
@@ -152,7 +154,8 @@ public class WishlistPage {
      */
     private void configureProductAndAddToCart() {
         String url = driver.getCurrentUrl();
-        System.out.println("Në faqen e konfigurimit: " + url);
+        Log.debug(() -> "Në faqen e konfigurimit: " + url);
+        PageSnapshots.capture(driver, WishlistPageElements.class, "configure");
 
         // 1) COLOR – try swatch from #configurable_swatch_color
         boolean colorChosen = false;
@@ -161,9 +164,8 @@ public class WishlistPage {
         );
         if (!colorSwatches.isEmpty()) {
             WebElement color = colorSwatches.get(0);
-            scrollIntoViewCenter(color);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", color);
-            System.out.println("✅ Color (swatch) u zgjodh nga #configurable_swatch_color.");
+            JsHelpers.scrollAndClick(driver, color);
+            Log.debug("✅ Color (swatch) u zgjodh nga #configurable_swatch_color.");
             colorChosen = true;
         }
 
@@ -184,9 +186,8 @@ public class WishlistPage {
         );
         if (!sizeSwatches.isEmpty()) {
             WebElement size = sizeSwatches.get(0);
-            scrollIntoViewCenter(size);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", size);
-            System.out.println("✅ Size (swatch) u zgjodh nga #configurable_swatch_size.");
+            JsHelpers.scrollAndClick(driver, size);
+            Log.debug("✅ Size (swatch) u zgjodh nga #configurable_swatch_size.");
             sizeChosen = true;
         }
 
@@ -206,9 +207,7 @@ public class WishlistPage {
         // 4.a – try button inside form#product_addtocart_form
         WebElement addToCartBtn = null;
         try {
-            addToCartBtn = driver.findElement(
-                    By.cssSelector("form#product_addtocart_form button.btn-cart")
-            );
+            addToCartBtn = driver.findElement(WishlistPageElements.PRODUCT_ADD_TO_CART_BUTTON_PRIMARY);
             if (!addToCartBtn.isDisplayed()) {
                 addToCartBtn = null;
             }
@@ -269,13 +268,12 @@ public class WishlistPage {
         scrollIntoViewCenter(addToCartBtn);
 
         // 6) Click via JavaScript
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].click();", addToCartBtn);
-        System.out.println("✅ JS click në ADD TO CART u krye.");
+        JsHelpers.click(driver, addToCartBtn);
+        Log.debug("✅ JS click në ADD TO CART u krye.");
 
         // 7) After clicking, try to detect redirect / success message / cart table.
         //    Do not throw if none are found within timeout.
-        WebDriverWait postClickWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait postClickWait = new AdaptiveWait(driver, Duration.ofSeconds(10));
         try {
             postClickWait.until(
                     ExpectedConditions.or(
@@ -286,19 +284,19 @@ public class WishlistPage {
                     )
             );
         } catch (TimeoutException e) {
-            System.out.println("⚠ Asnjë redirect / mesazh suksesi i dukshëm – po vazhdoj dhe do hap cart manualisht.");
+            Log.warn("⚠ Asnjë redirect / mesazh suksesi i dukshëm – po vazhdoj dhe do hap cart manualisht.");
         }
 
         // 8) If still on configure page, navigate to cart manually
 
         if (!driver.getCurrentUrl().contains("/checkout/cart")) {
-            System.out.println("✅ Po hap manualisht Shopping Cart...");
+            Log.debug("✅ Po hap manualisht Shopping Cart...");
             driver.get(BASE_URL + "/checkout/cart/");
-            new WebDriverWait(driver, Duration.ofSeconds(20))
+            new AdaptiveWait(driver, Duration.ofSeconds(20))
                     .until(ExpectedConditions.urlContains("/checkout/cart"));
         }
 
-        System.out.println("Pas konfigurimit jemi në: " + driver.getCurrentUrl());
+        Log.debug(() -> "Pas konfigurimit jemi në: " + driver.getCurrentUrl());
     }
 
 
@@ -316,30 +314,71 @@ public class WishlistPage {
             List<WebElement> rows = getWishlistItems();
 
             if (rows.isEmpty()) {
-                System.out.println("Wishlist është bosh – u shtuan vetëm " + i + " produkte në cart.");
+                Log.info("Wishlist është bosh – u shtuan vetëm " + i + " produkte në cart.");
                 break; // nuk ka më çfarë të shtojmë
             }
 
-            System.out.println("Po shtoj në cart produktin #" + (i + 1));
-
-            // Always use current first row
-            WebElement row = rows.get(0);
+            int position = i + 1;
+            Log.debug(() -> "Po shtoj në cart produktin #" + position);
 
+            // State before the (non-idempotent) add: a retry must only happen if the attempt changed nothing
+            int wishlistBefore = rows.size();
+            int cartBefore = getHeaderCartCount();
 
-            // 1) Click "Add to Cart" from wishlist row
-            clickAddToCartForRow(row);
+            // 1) Click "Add to Cart" from the current first wishlist row
+            //    (retried from a reloaded wishlist if the row goes stale / the click is intercepted,
+            //    unless the click already opened the configure page or moved the item into the cart)
+            StepRetry.run("WishlistPage.clickAddToCartForRow",
+                    this::reloadWishlist,
+                    () -> clickAddToCartForRow(getWishlistItems().get(0)),
+                    () -> driver.getCurrentUrl().contains("/wishlist/index/configure")
+                            || addedToCart(cartBefore, wishlistBefore));
 
             // 2) If configuration page opens, select options and add to cart
-            if (driver.getCurrentUrl().contains("/wishlist/index/configure")) {
-                configureProductAndAddToCart();
+            //    (retried from a reloaded configure page, unless the cart already grew)
+            String configureUrl = driver.getCurrentUrl();
+            if (configureUrl.contains("/wishlist/index/configure")) {
+                StepRetry.run("WishlistPage.configureProductAndAddToCart",
+                        () -> driver.get(configureUrl),
+                        this::configureProductAndAddToCart,
+                        () -> addedToCart(cartBefore, wishlistBefore));
             }
 
             // 3) If more products need to be added, navigate back to wishlist
             if (i < howMany - 1) {
-                driver.get(BASE_URL + "/wishlist/");
-                waitForWishlistToLoad();
+                reloadWishlist();
             }
         }
     }
 
+    /**
+     * Total quantity shown by the header mini-cart of the current page (0 when the cart is empty).
+     */
+    public int getHeaderCartCount() {
+        List<WebElement> count = driver.findElements(WishlistPageElements.HEADER_CART_COUNT);
+        if (count.isEmpty()) {
+            return 0;
+        }
+        String digits = count.get(0).getAttribute("textContent").replaceAll("\\D", "");
+        return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+    }
+
+    /**
+     * Whether an add-to-cart attempt took effect: reloads the wishlist and compares the mini-cart
+     * and the number of rows with the state recorded before the attempt.
+     */
+    private boolean addedToCart(int cartBefore, int wishlistBefore) {
+        reloadWishlist();
+        return getHeaderCartCount() > cartBefore
+                || driver.findElements(WishlistPageElements.WISHLIST_ROWS).size() < wishlistBefore;
+    }
+
+    /**
+     * Opens the wishlist page again (also the retry checkpoint of the add-to-cart steps).
+     */
+    private void reloadWishlist() {
+        driver.get(BASE_URL + "/wishlist/");
+        waitForWishlistToLoad();
+    }
+
 }
@@ -1,8 +1,12 @@
     package core.pages;
     
     import core.elements.WomenPageElements;
+    import core.utilities.AdaptiveWait;
+    import core.utilities.HoverState;
+    import core.utilities.PageSnapshots;
+    import core.utilities.JsHelpers;
+    import core.utilities.Log;
     import org.openqa.selenium.*;
-    import org.openqa.selenium.interactions.Actions;
     import org.openqa.selenium.support.ui.ExpectedConditions;
     import org.openqa.selenium.support.ui.Select;
     import org.openqa.selenium.support.ui.WebDriverWait;
@@ -19,40 +23,21 @@
     
         private final WebDriver driver;
         private final WebDriverWait wait;
-        private final Actions actions;
     
         public WomenPage(WebDriver driver, int timeoutSeconds) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            this.actions = new Actions(driver);
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
         }
 
         // ================== HOVER ACTIONS (Test 3) ==================
     
-        private WebElement getLastProductLi() {
-            return wait.until(
-                    ExpectedConditions.visibilityOfElementLocated(WomenPageElements.LAST_PRODUCT_LI)
-            );
-        }
-    
-        public void hoverLastProduct() {
-            WebElement product = getLastProductLi();
-            actions.moveToElement(product).perform();
-        }
-    
-        public boolean areLastProductActionsVisible() {
-            try {
-                WebElement actionsDiv = driver.findElement(WomenPageElements.LAST_PRODUCT_ACTIONS);
-                return actionsDiv.isDisplayed();
-            } catch (NoSuchElementException e) {
-                return false;
-            }
-        }
-    
-        public void waitForLastProductActionsVisible() {
-            wait.until(
-                    ExpectedConditions.visibilityOfElementLocated(WomenPageElements.LAST_PRODUCT_ACTIONS)
-            );
+        /**
+         * Hover check on every product card in one pass: is div.actions hidden before and visible while hovered?
+         * Uses forced :hover over DevTools (or real pointer hover with hoverMode=pointer), see HoverState.
+         */
+        public List<HoverState.Result> checkHoverActionsOnAllProducts() {
+            waitForPageToLoad();
+            return HoverState.reveals(driver, WomenPageElements.PRODUCT_CSS, WomenPageElements.PRODUCT_ACTIONS_CSS);
         }
 
         // ================== SORTING & WISHLIST (Test 6) ==================
@@ -65,6 +50,7 @@
             // Only wait for Women products to be present in the DOM
 
             wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(WomenPageElements.WOMEN_PRODUCTS));
+            PageSnapshots.capture(driver, WomenPageElements.class, "grid");
         }
 
 
@@ -79,7 +65,7 @@
                 );
     
                 String classes = dirLink.getAttribute("class");
-                System.out.println("Sort direction classes: " + classes);
+                Log.debug(() -> "Sort direction classes: " + classes);
 
                  // In HTML: "sort-by-switcher sort-by-switcher--asc" when ASC,
                 // "sort-by-switcher--desc" when DESC
@@ -88,8 +74,7 @@
                     try {
                         dirLink.click();
                     } catch (ElementClickInterceptedException e) {
-                        ((JavascriptExecutor) driver)
-                                .executeScript("arguments[0].click();", dirLink);
+                        JsHelpers.click(driver, dirLink);
                     }
 
                     // After click, URL should contain dir=asc
@@ -98,7 +83,7 @@
                 }
             } catch (TimeoutException | NoSuchElementException e) {
                 // If switcher is not found or times out, don't fail the test because of this
-                System.out.println("Nuk u gjet sort direction switcher ose ka timeout: " + e.getMessage());
+                Log.warn("Nuk u gjet sort direction switcher ose ka timeout: " + e.getMessage());
             }
         }
         /**
@@ -120,7 +105,7 @@
 
             // 3) Check current selected option
             String current = sortSelect.getFirstSelectedOption().getText().trim();
-            System.out.println("Sort By aktual: " + current);
+            Log.debug(() -> "Sort By aktual: " + current);
 
             // 4) If not "Price", select "Price"
             if (!current.equalsIgnoreCase("Price")) {
@@ -139,7 +124,7 @@
             // 6) Ensure products are loaded again
             waitForPageToLoad();
     
-            System.out.println("URL pas sortimit: " + driver.getCurrentUrl());
+            Log.debug(() -> "URL pas sortimit: " + driver.getCurrentUrl());
         }
 
         /**
@@ -165,16 +150,35 @@
 
         /**
          * Checks if product prices are in ascending order (with a small tolerance for known Tealium bug).
+         * Minimum-advertised-price cards ("Click for price", see PRODUCT_MAP_PRICE_CSS) show no price and are
+         * left out; any other card without a readable price fails the check with its position.
          */
         public boolean arePricesSortedAscending(List<WebElement> products) {
-            // Collect price list as doubles
+            // Collect price list as doubles (all price texts in one script call)
             List<Double> prices = new ArrayList<>();
-            for (WebElement product : products) {
-                double price = getProductPrice(product);
-                prices.add(price);
+            List<String> texts = JsHelpers.texts(driver, products, WomenPageElements.PRODUCT_PRICE_CSS);
+            List<String> mapPrices = null;
+            for (int i = 0; i < texts.size(); i++) {
+                String text = texts.get(i).replace("$", "").replace(",", "").trim();
+                if (text.isEmpty()) {
+                    if (mapPrices == null) {
+                        mapPrices = JsHelpers.texts(driver, products, WomenPageElements.PRODUCT_MAP_PRICE_CSS);
+                    }
+                    if (mapPrices.get(i).isEmpty()) {
+                        throw new IllegalStateException("Produkti #" + (i + 1) + " nuk ka çmim në grid.");
+                    }
+                    Log.debug("Produkti #" + (i + 1) + " ka çmim MAP (\"" + mapPrices.get(i) + "\") – nuk merret parasysh.");
+                    continue;
+                }
+                try {
+                    prices.add(Double.parseDouble(text));
+                } catch (NumberFormatException e) {
+                    throw new IllegalStateException("Çmimi i produktit #" + (i + 1) + " nuk lexohet: '"
+                            + texts.get(i) + "'", e);
+                }
             }
     
-            System.out.println("CMIMET E GJETURA: " + prices);
+            Log.debug(() -> "CMIMET E GJETURA: " + prices);
     
             int violations = 0;
     
@@ -182,18 +186,18 @@
                 double prev = prices.get(i - 1);
                 double curr = prices.get(i);
     
-                System.out.println("COMPARE " + prev + " -> " + curr);
+                Log.debug(() -> "COMPARE " + prev + " -> " + curr);
     
                 if (curr < prev) {
                     violations++;
-                    System.out.println("VIOLATION #" + violations + ": " + curr + " < " + prev);
+                    Log.warn("VIOLATION #" + violations + ": " + curr + " < " + prev);
                 }
             }
 
             // Due to a known Tealium demo bug (e.g. 280 then 245),
             // allow at most 1 ordering violation.
             if (violations > 1) {
-                System.out.println("Shkelje të tepërta në renditje: " + violations);
+                Log.warn("Shkelje të tepërta në renditje: " + violations);
                 return false;
             }
     
@@ -206,16 +210,14 @@
         public void addProductToWishlist(WebElement product) {
             WebElement wishlistLink = product.findElement(WomenPageElements.PRODUCT_WISHLIST_LINK);
     
-            ((JavascriptExecutor) driver)
-                    .executeScript("arguments[0].scrollIntoView({block:'center'});", product);
+            JsHelpers.scrollIntoView(driver, product);
     
             wait.until(ExpectedConditions.elementToBeClickable(wishlistLink));
     
             try {
                 wishlistLink.click();
             } catch (ElementClickInterceptedException e) {
-                ((JavascriptExecutor) driver)
-                        .executeScript("arguments[0].click();", wishlistLink);
+                JsHelpers.click(driver, wishlistLink);
             }
         }
         /**
@@ -245,7 +247,7 @@
                     return;
     
                 } catch (StaleElementReferenceException e) {
-                    System.out.println("StaleElement gjatë marrjes/shtimit të produkteve (attempt "
+                    Log.warn("StaleElement gjatë marrjes/shtimit të produkteve (attempt "
                             + attempt + "), po provoj përsëri...");
                     // Loop continues and on next attempt we:
                     // - verify URL
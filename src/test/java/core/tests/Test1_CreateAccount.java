@@ -1,16 +1,23 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
 import core.pages.HomePage;
 import core.pages.RegisterPage;
+import core.utilities.AccountPool;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.TestDataGenerator;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 /**
  * Test 1: Verifies that a new user can create an account successfully.
  */
+@Rendering(Rendering.Mode.DOM_ONLY)
+@Fixtures(provides = Fixture.REGISTERED_ACCOUNT)
 public class Test1_CreateAccount extends BaseTest {
 
     @Test
@@ -31,13 +38,20 @@ public class Test1_CreateAccount extends BaseTest {
 
         // 2) Generate unique email + password
         String email = register.generateUniqueEmail();
-        String password = "Test@12345";
+        String password = TestDataGenerator.password();
+        String firstName = TestDataGenerator.firstName();
+        String lastName = TestDataGenerator.lastName();
+        String fullName = firstName + " Auto " + lastName;
 
         // Store credentials for subsequent tests
-        Globals.registeredEmail = email;
-        Globals.registeredPassword = password;
+        // (with the account pool, later tests already use a leased account)
+        if (!AccountPool.isEnabled()) {
+            Globals.registeredEmail = email;
+            Globals.registeredPassword = password;
+            Globals.registeredName = fullName;
+        }
 
-        register.fillRegisterForm("Test", "Auto", "User", email, password);
+        register.fillRegisterForm(firstName, "Auto", lastName, email, password);
 
         // 3) Click Register
         register.clickRegister();
@@ -49,6 +63,11 @@ public class Test1_CreateAccount extends BaseTest {
                 "Mesazhi i suksesit nuk u shfaq siç pritej!"
         );
 
+        // Registered account is reusable: top up the pool while it is below accountPoolSize
+        if (AccountPool.isEnabled()) {
+            AccountPool.add(email, password, fullName);
+        }
+
         // 5) Logout
         home.logout();
     }
@@ -1,6 +1,9 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.utilities.BaseTest;
@@ -11,14 +14,16 @@ import org.testng.annotations.Test;
 /**
  * Test 2: Validates successful sign-in using credentials created in Test1.
  */
+@Rendering(Rendering.Mode.DOM_ONLY)
+@Fixtures(requires = Fixture.REGISTERED_ACCOUNT)
 public class Test2_SignIn extends BaseTest {
 
     @Test
     public void signInSuccessfully() {
 
         // Ensure Test1 has already produced valid credentials
-        Assert.assertNotNull(Globals.registeredEmail, "Nuk ka email nga Test1!");
-        Assert.assertNotNull(Globals.registeredPassword, "Nuk ka password nga Test1!");
+        Assert.assertNotNull(Globals.email(), "Nuk ka email nga Test1!");
+        Assert.assertNotNull(Globals.password(), "Nuk ka password nga Test1!");
 
         // Load configurable timeout for waits and interactions
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
@@ -30,16 +35,17 @@ public class Test2_SignIn extends BaseTest {
 
         // Perform login using previously registered credentials
         LoginPage login = new LoginPage(driver, timeout);
-        login.login(Globals.registeredEmail, Globals.registeredPassword);
+        login.login(Globals.email(), Globals.password());
 
         // Retrieve welcome banner text
         String welcome = home.getWelcomeMessage();
-        String expectedName = "Test Auto User";
+        String expectedName = Globals.fullName();
+        Assert.assertNotNull(expectedName, "Emri i llogarisë nuk dihet (Test1_CreateAccount / account pool).");
 
         // Validate UI displays logged-in user's full name
         Assert.assertTrue(
                 welcome.toLowerCase().contains(expectedName.toLowerCase()),
-                "Username (Test Auto User) nuk u shfaq ne kendin e djathte! Mesazhi: " + welcome
+                "Username (" + expectedName + ") nuk u shfaq ne kendin e djathte! Mesazhi: " + welcome
         );
 
         // Logout to reset session state for subsequent tests
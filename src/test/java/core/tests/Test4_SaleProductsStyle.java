@@ -1,16 +1,23 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
+import core.globals.SharedBrowser;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.pages.SalePage;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.VisualBaseline;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -18,24 +25,29 @@ import java.util.List;
  * - Old price should be grey + strikethrough
  * - Final price should be blue + normal text
  */
+@Rendering(Rendering.Mode.VISUAL)
+@SharedBrowser
+@Fixtures(requires = Fixture.REGISTERED_ACCOUNT)
 public class Test4_SaleProductsStyle extends BaseTest {
 
     @Test
     public void saleProductsHaveCorrectStyle() {
 
         // Dependency: Test1 must have stored credentials for login
-        Assert.assertNotNull(Globals.registeredEmail, "Nuk ka email nga Test1!");
-        Assert.assertNotNull(Globals.registeredPassword, "Nuk ka password nga Test1!");
+        Assert.assertNotNull(Globals.email(), "Nuk ka email nga Test1!");
+        Assert.assertNotNull(Globals.password(), "Nuk ka password nga Test1!");
 
         // Configurable timeout
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
 
         HomePage home = new HomePage(driver, timeout);
 
-        // === STEP 1: Sign In ===
-        home.goToSignIn();
-        LoginPage login = new LoginPage(driver, timeout);
-        login.login(Globals.registeredEmail, Globals.registeredPassword);
+        // === STEP 1: Sign In (already done in a shared browser tab, see @SharedBrowser) ===
+        if (!home.hasSignedInSession()) {
+            home.goToSignIn();
+            LoginPage login = new LoginPage(driver, timeout);
+            login.login(Globals.email(), Globals.password());
+        }
 
         // Verify login succeeded via welcome banner
         Assert.assertTrue(
@@ -108,5 +120,19 @@ public class Test4_SaleProductsStyle extends BaseTest {
                     "Final price NUK duhet të jetë strikethrough. CSS: " + finalDecoration
             );
         }
+
+        // === STEP 5: Compare rendered price boxes with stored baselines ===
+        Map<String, WebElement> priceBoxes = new LinkedHashMap<>();
+        for (WebElement product : saleProducts) {
+            priceBoxes.put(salePage.getProductName(product), salePage.getPriceBox(product));
+        }
+
+        List<String> visualDiffs = VisualBaseline.verify(
+                VisualBaseline.capture(driver, "sale-price-box", priceBoxes)
+        );
+        Assert.assertTrue(
+                visualDiffs.isEmpty(),
+                "Price box-et ndryshojnë nga baseline: " + visualDiffs
+        );
     }
 }
@@ -1,40 +1,52 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
+import core.globals.SharedBrowser;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.pages.MenPage;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.VisualBaseline;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Test 5: Validates product filtering behavior on Men category page:
  * - Black color filter must visually select "Black" swatch with border
  * - Price filter $0–$99.99 must reduce results to 3 products within range
  */
+@Rendering(Rendering.Mode.VISUAL)
+@SharedBrowser
+@Fixtures(requires = Fixture.REGISTERED_ACCOUNT)
 public class Test5_PageFilters extends BaseTest {
 
     @Test
     public void menPageFiltersWorkCorrectly() {
 
         // Precondition: Test1 must have created and stored credentials
-        Assert.assertNotNull(Globals.registeredEmail, "Nuk ka email nga Test1_CreateAccount!");
-        Assert.assertNotNull(Globals.registeredPassword, "Nuk ka password nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.email(), "Nuk ka email nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.password(), "Nuk ka password nga Test1_CreateAccount!");
 
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
 
         // Browser + BASE_URL are handled by BaseTest.setUp()
         HomePage home = new HomePage(driver, timeout);
 
-        // === STEP 1: Sign In ===
-        home.goToSignIn();
-        LoginPage login = new LoginPage(driver, timeout);
-        login.login(Globals.registeredEmail, Globals.registeredPassword);
+        // === STEP 1: Sign In (already done in a shared browser tab, see @SharedBrowser) ===
+        if (!home.hasSignedInSession()) {
+            home.goToSignIn();
+            LoginPage login = new LoginPage(driver, timeout);
+            login.login(Globals.email(), Globals.password());
+        }
 
         Assert.assertTrue(
                 home.isUserLoggedIn(),
@@ -63,6 +75,20 @@ public class Test5_PageFilters extends BaseTest {
             );
         }
 
+        // Visual check: rendered Black swatches must match the stored baselines
+        Map<String, WebElement> swatches = new LinkedHashMap<>();
+        for (WebElement product : productsAfterColor) {
+            swatches.put(menPage.getProductName(product), menPage.getBlackSwatch(product));
+        }
+
+        List<String> visualDiffs = VisualBaseline.verify(
+                VisualBaseline.capture(driver, "men-black-swatch", swatches)
+        );
+        Assert.assertTrue(
+                visualDiffs.isEmpty(),
+                "Swatch-et Black ndryshojnë nga baseline: " + visualDiffs
+        );
+
         // === STEP 4: Apply price filter: $0.00 – $99.99 ===
         menPage.applyPriceFilter0To99();
         List<WebElement> productsAfterPrice = menPage.getAllProducts();
@@ -1,11 +1,15 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.pages.WomenPage;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.Log;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -16,14 +20,16 @@ import java.util.List;
  * Test 6: Validates sorting by price on Women page and wishlist counter update
  * after adding two products.
  */
+@Rendering(Rendering.Mode.DOM_ONLY)
+@Fixtures(requires = Fixture.REGISTERED_ACCOUNT, provides = Fixture.NON_EMPTY_WISHLIST)
 public class Test6_Sorting extends BaseTest {
 
     @Test
     public void productsSortedByPriceAndTwoItemsInWishlist() {
 
         // Precondition: valid account must exist from Test1_CreateAccount
-        Assert.assertNotNull(Globals.registeredEmail, "Nuk ka email nga Test1_CreateAccount!");
-        Assert.assertNotNull(Globals.registeredPassword, "Nuk ka password nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.email(), "Nuk ka email nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.password(), "Nuk ka password nga Test1_CreateAccount!");
 
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
 
@@ -32,7 +38,7 @@ public class Test6_Sorting extends BaseTest {
         // 1) Sign In
         home.goToSignIn();
         LoginPage login = new LoginPage(driver, timeout);
-        login.login(Globals.registeredEmail, Globals.registeredPassword);
+        login.login(Globals.email(), Globals.password());
 
         Assert.assertTrue(
                 home.isUserLoggedIn(),
@@ -64,7 +70,7 @@ public class Test6_Sorting extends BaseTest {
 
         // 7) Read My Wishlist text from Account menu and assert content
         String wishlistText = home.getMyWishlistTextFromAccountMenu();
-        System.out.println("My Wishlist menu text: " + wishlistText);
+        Log.info("My Wishlist menu text: " + wishlistText);
 
         Assert.assertTrue(
                 wishlistText.contains("My Wishlist") && wishlistText.contains("(2 items)"),
@@ -1,23 +1,35 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.pages.WishlistPage;
 import core.pages.ShoppingCartPage;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.FixtureSeeder;
+import core.utilities.StateSnapshots;
+import core.utilities.Log;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+@Rendering(Rendering.Mode.DOM_ONLY)
+@Fixtures(
+        requires = {Fixture.REGISTERED_ACCOUNT, Fixture.NON_EMPTY_WISHLIST},
+        provides = Fixture.NON_EMPTY_CART,
+        seededOverHttp = Fixture.NON_EMPTY_WISHLIST
+)
 public class Test7_ShoppingCartTest extends BaseTest {
 
     @Test
     public void shoppingCartTotalsAreCorrect() {
 
         // PRECONDITION: User must already exist (created in Test1_CreateAccount)
-        Assert.assertNotNull(Globals.registeredEmail, "Nuk ka email nga Test1_CreateAccount!");
-        Assert.assertNotNull(Globals.registeredPassword, "Nuk ka password nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.email(), "Nuk ka email nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.password(), "Nuk ka password nga Test1_CreateAccount!");
 
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
 
@@ -26,19 +38,32 @@ public class Test7_ShoppingCartTest extends BaseTest {
 
         // 1) Sign In using the same registered user
         homePage.goToSignIn();
-        loginPage.login(Globals.registeredEmail, Globals.registeredPassword);
+        loginPage.login(Globals.email(), Globals.password());
 
         Assert.assertTrue(
                 homePage.isUserLoggedIn(),
                 "Sign In dështoi në Test7 – nuk u gjet mesazhi i mirëseardhjes."
         );
 
-        // 2) Open My Wishlist via ACCOUNT menu
-        homePage.goToMyWishlist();
-
-        // 3) Add 2 products from wishlist → cart (handled internally by WishlistPage logic)
-        WishlistPage wishlistPage = new WishlistPage(driver, timeout);
-        wishlistPage.addFirstNProductsToCart(2);
+        if (FixtureSeeder.isEnabled()) {
+            // 2-3) Seed the cart directly over HTTP with the 2 cheapest Women products
+            // (same products Test6 puts in the wishlist) – no dependency on Test6
+            FixtureSeeder seeder = FixtureSeeder.fromBrowser(driver);
+            for (String productUrl : seeder.findProductUrls("women.html?dir=asc&order=price", 2)) {
+                seeder.addToCart(productUrl, 1);
+            }
+            // Same end state as the UI flow, which moves the wishlist items into the cart:
+            // nothing is left behind for the next test (or run) using this account
+            seeder.clearWishlist();
+            seeder.syncCookiesTo(driver);
+        } else {
+            // 2) Open My Wishlist via ACCOUNT menu
+            homePage.goToMyWishlist();
+
+            // 3) Add 2 products from wishlist → cart (handled internally by WishlistPage logic)
+            WishlistPage wishlistPage = new WishlistPage(driver, timeout);
+            wishlistPage.addFirstNProductsToCart(2);
+        }
 
         // NOTE: After adding the 2 items, Tealium typically redirects to /checkout/cart,
         // but we enforce navigation to ensure test is stable.
@@ -56,8 +81,8 @@ public class Test7_ShoppingCartTest extends BaseTest {
         double sumOfItems = cartPage.getSumOfAllSubtotals();
         double grandTotal = cartPage.getGrandTotal();
 
-        System.out.println("SUM OF ITEMS: " + sumOfItems);
-        System.out.println("GRAND TOTAL : " + grandTotal);
+        Log.info("SUM OF ITEMS: " + sumOfItems);
+        Log.info("GRAND TOTAL : " + grandTotal);
 
         // 7) ASSERT (Business rule): Grand Total = Σ (item subtotals)
         Assert.assertEquals(
@@ -65,6 +90,9 @@ public class Test7_ShoppingCartTest extends BaseTest {
                 grandTotal,
                 "Sum of all item subtotals must be equal to Grand Total price"
         );
+
+        // 8) Keep the logged-in session with its non-empty cart for Test8
+        StateSnapshots.capture(Fixture.NON_EMPTY_CART, driver);
     }
 }
 
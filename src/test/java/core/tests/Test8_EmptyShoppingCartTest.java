@@ -1,11 +1,15 @@
 package core.tests;
 
+import core.globals.Fixture;
+import core.globals.Fixtures;
 import core.globals.Globals;
+import core.globals.Rendering;
 import core.pages.HomePage;
 import core.pages.LoginPage;
 import core.pages.ShoppingCartPage;
 import core.utilities.BaseTest;
 import core.utilities.ConfigurationReader;
+import core.utilities.StateSnapshots;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -13,23 +17,27 @@ import org.testng.annotations.Test;
  * Test 8: Validates that removing all items from the Shopping Cart
  * results in an empty cart message being displayed.
  */
+@Rendering(Rendering.Mode.DOM_ONLY)
+@Fixtures(requires = {Fixture.REGISTERED_ACCOUNT, Fixture.NON_EMPTY_CART})
 public class Test8_EmptyShoppingCartTest extends BaseTest {
 
     @Test
     public void emptyShoppingCartTest() {
 
         // PRECONDITION: valid credentials must exist from Test1_CreateAccount
-        Assert.assertNotNull(Globals.registeredEmail,  "Nuk ka email nga Test1_CreateAccount!");
-        Assert.assertNotNull(Globals.registeredPassword,"Nuk ka password nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.email(),  "Nuk ka email nga Test1_CreateAccount!");
+        Assert.assertNotNull(Globals.password(),"Nuk ka password nga Test1_CreateAccount!");
 
         int timeout = ConfigurationReader.getInt("timeoutSeconds");
 
         HomePage homePage   = new HomePage(driver, timeout);
         LoginPage loginPage = new LoginPage(driver, timeout);
 
-        // 1) Sign In with the existing user
-        homePage.goToSignIn();
-        loginPage.login(Globals.registeredEmail, Globals.registeredPassword);
+        // 1) Restore the logged-in session with its cart from Test7, or Sign In with the existing user
+        if (!StateSnapshots.restore(Fixture.NON_EMPTY_CART, driver)) {
+            homePage.goToSignIn();
+            loginPage.login(Globals.email(), Globals.password());
+        }
 
         Assert.assertTrue(
                 homePage.isUserLoggedIn(),
@@ -48,6 +56,9 @@ public class Test8_EmptyShoppingCartTest extends BaseTest {
                 "Precondition FAILED: Shopping cart duhet të ketë të paktën 1 produkt para se ta boshatisim."
         );
 
+        // The cart is about to be emptied – the snapshot no longer matches the server-side state
+        StateSnapshots.invalidate(Fixture.NON_EMPTY_CART);
+
         // 3) Remove items one by one and verify the count decreases until cart is empty
         while (itemCount > 0) {
             int previousCount = itemCount;
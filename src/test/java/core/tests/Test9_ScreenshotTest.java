@@ -4,6 +4,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.testng.annotations.Listeners;
 import core.listeners.TestListener;
+import core.utilities.Log;
 
 /**
  * Test 9: Forces a failure to validate screenshot capture via TestListener.
@@ -15,7 +16,7 @@ public class Test9_ScreenshotTest {
     public void verifyScreenshotOnFail() {
         // PURPOSE: This test intentionally fails to confirm that the TestListener's
         // onTestFailure() hook captures and stores a screenshot successfully.
-        System.out.println("Ky test pritet te fail-oje per screenshot");
+        Log.info("Ky test pritet te fail-oje per screenshot");
 
         // Force failure
         Assert.assertTrue(false);
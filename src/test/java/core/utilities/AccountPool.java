@@ -0,0 +1,509 @@
+package core.utilities;
+
+import core.globals.Fixture;
+import core.globals.Fixtures;
+import core.globals.Globals;
+import core.pages.HomePage;
+import core.pages.RegisterPage;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AccountPool:
+ * Pre-registered test accounts stored in a local file (one "email password full name" per line; the name is
+ * what the storefront greets the account with. Older lines without a name are not leased).
+ * Accounts are handed out as exclusive leases backed by OS file locks, so two threads
+ * or two forked JVMs / agents never share the same account (and therefore the same cart).
+ * Missing accounts are registered once through the UI and reused by later runs.
+ * accounts.txt holds the passwords in plain text: these are throwaway storefront accounts, and the file is
+ * created owner-only (rw-------, where the file system has POSIX permissions) and kept out of git.
+ * UI registrations run outside the pool lock: a provisioning JVM first reserves its slots (marker files under
+ * pending/, counted until its JVM is gone), so other threads and JVMs are not blocked behind a browser.
+ *
+ * Each test requiring Fixture.REGISTERED_ACCOUNT leases its own account in BaseTest.setUp and releases
+ * it in tearDown. A fresh lease starts with an empty wishlist and cart, since pooled accounts keep
+ * whatever an earlier (possibly failed) run left behind. A passing test that provides account state
+ * (NON_EMPTY_WISHLIST / NON_EMPTY_CART) hands its lease over to the dependant consuming that state,
+ * so a fixture chain like Test6 -> Test7 -> Test8 stays on one account.
+ */
+public class AccountPool {
+
+    // Accounts leased by this JVM. File locks are per process, and closing a second channel on a
+    // locked file releases the process lock on POSIX, so in-JVM leases are tracked here first.
+    private static final Set<String> leasedHere = ConcurrentHashMap.newKeySet();
+
+    // Fixtures describing server-side state of an account, which only exists on that account
+    private static final Set<Fixture> STATE_FIXTURES = EnumSet.of(Fixture.NON_EMPTY_WISHLIST, Fixture.NON_EMPTY_CART);
+
+    // Lease of the test running on this thread
+    private static final ThreadLocal<Lease> current = new ThreadLocal<>();
+
+    // Leases handed over by a passing provider, waiting for the dependant that consumes the fixture
+    private static final Map<Fixture, Lease> handedOver = new ConcurrentHashMap<>();
+
+    // Numbers the pending/ slot markers of this JVM
+    private static final AtomicInteger reservations = new AtomicInteger();
+
+    /**
+     * An account held exclusively until close() is called.
+     */
+    public static final class Lease implements AutoCloseable {
+        private final String email;
+        private final String password;
+        private final String name;
+        private final FileChannel channel;
+        private final FileLock lock;
+
+        private Lease(String email, String password, String name, FileChannel channel, FileLock lock) {
+            this.email = email;
+            this.password = password;
+            this.name = name;
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        /** Full name the account was registered with (shown in the welcome banner). */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void close() {
+            try {
+                lock.release();
+                channel.close();
+            } catch (IOException e) {
+                Log.warn("Lease për " + email + " nuk u lirua: " + e.getMessage());
+            } finally {
+                leasedHere.remove(email);
+            }
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("accountPoolEnabled", false);
+    }
+
+    private static Path dir() {
+        String dir = ConfigurationReader.get("accountPoolDir");
+        return Path.of(dir == null ? "account-pool" : dir);
+    }
+
+    // ================== PER-TEST LEASES ==================
+
+    /**
+     * Leases an account for the test about to run on this thread (if it requires REGISTERED_ACCOUNT)
+     * and publishes it through Globals. Takes over the lease handed over by the provider of a required
+     * state fixture; otherwise leases a free account and empties its wishlist and cart.
+     */
+    public static void acquire(Method testMethod) {
+        Fixtures fixtures = Fixture.declaredOn(testMethod);
+        if (fixtures == null || !List.of(fixtures.requires()).contains(Fixture.REGISTERED_ACCOUNT)) {
+            return;
+        }
+
+        Set<Fixture> seeded = FixtureSeeder.isEnabled() ? Set.of(fixtures.seededOverHttp()) : Set.of();
+        Lease lease = null;
+        for (Fixture required : fixtures.requires()) {
+            if (STATE_FIXTURES.contains(required) && !seeded.contains(required)) {
+                lease = claim(required);
+                if (lease != null) {
+                    break;
+                }
+            }
+        }
+
+        if (lease == null) {
+            lease = lease();
+            try {
+                reset(lease);
+            } catch (RuntimeException e) {
+                lease.close();
+                throw e;
+            }
+        }
+
+        current.set(lease);
+        Globals.useLeasedAccount(lease.getEmail(), lease.getPassword(), lease.getName());
+        Log.info("Account pool: testi përdor " + lease.getEmail());
+    }
+
+    /**
+     * Ends the lease of the test that ran on this thread: handed over to the dependants when the test
+     * passed and provides account state, released otherwise.
+     */
+    public static void finish(Method testMethod, boolean passed) {
+        // Also clears the shared browser's account published to a tab's test (see TabScheduler)
+        Globals.clearLeasedAccount();
+        Lease lease = current.get();
+        if (lease == null) {
+            return;
+        }
+        current.remove();
+
+        Fixtures fixtures = Fixture.declaredOn(testMethod);
+        boolean kept = false;
+        if (passed && fixtures != null) {
+            for (Fixture provided : fixtures.provides()) {
+                if (STATE_FIXTURES.contains(provided)) {
+                    handOver(provided, lease);
+                    kept = true;
+                }
+            }
+        }
+        if (kept) {
+            // The account now carries state a resumed run would continue with
+            SuiteCheckpoint.account(lease.getEmail());
+        } else {
+            lease.close();
+        }
+    }
+
+    /**
+     * Parks the lease for the next test requiring the fixture (replacing, and releasing, an older one).
+     */
+    public static void handOver(Fixture fixture, Lease lease) {
+        Lease previous = handedOver.put(fixture, lease);
+        if (previous != null && previous != lease && !handedOver.containsValue(previous)) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Releases leases no dependant took over (their consumer was skipped or seeds its own state). Suite end.
+     */
+    public static void releaseAll() {
+        Set<Lease> parked = Collections.newSetFromMap(new IdentityHashMap<>());
+        parked.addAll(handedOver.values());
+        handedOver.clear();
+        parked.forEach(Lease::close);
+    }
+
+    private static Lease claim(Fixture fixture) {
+        Lease lease = handedOver.remove(fixture);
+        if (lease != null) {
+            handedOver.values().removeIf(other -> other == lease);
+        }
+        return lease;
+    }
+
+    /**
+     * Empties wishlist and cart over HTTP, so a reused account starts in the state the tests expect.
+     */
+    private static void reset(Lease lease) {
+        FixtureSeeder seeder = FixtureSeeder.signIn(lease.getEmail(), lease.getPassword());
+        seeder.clearWishlist();
+        seeder.clearCart();
+    }
+
+    // ================== LEASING ==================
+
+    /**
+     * Leases a free account; registers a new one if every pooled account is taken.
+     */
+    public static Lease lease() {
+        for (String[] account : readAccounts()) {
+            Lease lease = tryLease(account[0], account[1], account[2]);
+            if (lease != null) {
+                return lease;
+            }
+        }
+
+        // Everything is leased by other threads / JVMs: grow the pool by one. Nobody knows the new
+        // account before it is appended, so it is leased first and registered without the pool lock.
+        String[] created = registerThroughUi();
+        Lease lease = tryLease(created[0], created[1], created[2]);
+        if (lease == null) {
+            throw new IllegalStateException("Llogaria e re " + created[0] + " nuk u mor me lease.");
+        }
+        withPoolLock(() -> {
+            append(created[0], created[1], created[2]);
+            return null;
+        });
+        return lease;
+    }
+
+    /**
+     * Leases the given pooled account (e.g. the one a checkpoint continues with),
+     * or returns null if it is not in the pool or is leased by someone else.
+     */
+    public static Lease lease(String email) {
+        for (String[] account : readAccounts()) {
+            if (account[0].equals(email)) {
+                return tryLease(account[0], account[1], account[2]);
+            }
+        }
+        return null;
+    }
+
+    private static Lease tryLease(String email, String password, String name) {
+        if (!leasedHere.add(email)) {
+            return null; // already leased by another thread of this JVM
+        }
+
+        FileChannel channel = null;
+        try {
+            Path lockFile = dir().resolve("locks").resolve(email + ".lock");
+            Files.createDirectories(lockFile.getParent());
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return new Lease(email, password, name, channel, lock);
+            }
+        } catch (IOException e) {
+            leasedHere.remove(email);
+            closeQuietly(channel);
+            throw new UncheckedIOException(e);
+        }
+        // Locked by another JVM
+        closeQuietly(channel);
+        leasedHere.remove(email);
+        return null;
+    }
+
+    // ================== PROVISIONING ==================
+
+    /**
+     * Registers accounts through the UI until the pool holds at least the given number.
+     * Safe to call from several JVMs: only one provisions at a time.
+     */
+    public static void provision(int size) {
+        List<Path> slots = withPoolLock(() -> {
+            List<Path> reserved = new ArrayList<>();
+            int missing = size - readAccounts().size() - pendingSlots();
+            for (int i = 0; i < missing; i++) {
+                reserved.add(reserveSlot());
+            }
+            return reserved;
+        });
+
+        for (Path slot : slots) {
+            try {
+                String[] account = registerThroughUi();
+                withPoolLock(() -> {
+                    append(account[0], account[1], account[2]);
+                    return null;
+                });
+                Log.info("Account pool: u regjistrua " + account[0]);
+            } finally {
+                deleteQuietly(slot);
+            }
+        }
+    }
+
+    /**
+     * Adds an already registered account (e.g. the one created by Test1) to the pool,
+     * as long as the pool is still below accountPoolSize. Returns true if it was added.
+     */
+    public static boolean add(String email, String password, String name) {
+        return withPoolLock(() -> {
+            if (readAccounts().size() + pendingSlots() >= targetSize()) {
+                return false;
+            }
+            append(email, password, name);
+            return true;
+        });
+    }
+
+    /**
+     * Number of accounts the pool is provisioned to (accountPoolSize).
+     */
+    public static int targetSize() {
+        return ConfigurationReader.getInt("accountPoolSize", 4);
+    }
+
+    /**
+     * Registers one account in a browser owned by the calling thread, then closes that browser.
+     */
+    private static String[] registerThroughUi() {
+        int timeout = ConfigurationReader.getInt("timeoutSeconds");
+        try {
+            WebDriver driver = DriverFactory.getDriver();
+            driver.get(ConfigurationReader.get("url"));
+
+            HomePage home = new HomePage(driver, timeout);
+            home.goToRegister();
+
+            RegisterPage register = new RegisterPage(driver, timeout);
+            String email = register.generateUniqueEmail();
+            String password = TestDataGenerator.password();
+            String firstName = TestDataGenerator.firstName();
+            String lastName = TestDataGenerator.lastName();
+            register.fillRegisterForm(firstName, "Auto", lastName, email, password);
+            register.clickRegister();
+
+            if (!register.getSuccessMessage().toLowerCase().contains("thank you for registering")) {
+                throw new IllegalStateException("Regjistrimi i llogarisë së pool-it dështoi: " + email);
+            }
+            home.logout();
+            return new String[]{email, password, firstName + " Auto " + lastName};
+        } finally {
+            DriverFactory.quitDriver();
+        }
+    }
+
+    // ================== STORAGE ==================
+
+    private static List<String[]> readAccounts() {
+        Path file = dir().resolve("accounts.txt");
+        List<String[]> accounts = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return accounts;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                // email, password, full name (lines written before names were stored have no name: skipped)
+                String[] parts = line.trim().split("\\s+", 3);
+                if (parts.length == 3) {
+                    accounts.add(parts);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return accounts;
+    }
+
+    private static void append(String email, String password, String name) {
+        Path file = dir().resolve("accounts.txt");
+        try {
+            if (!Files.exists(file)) {
+                createOwnerOnly(file);
+            } else if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                // files written before permissions were restricted
+                Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+            }
+            Files.writeString(file, email + " " + password + " " + name + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The pool file holds passwords: readable by its owner only
+    private static void createOwnerOnly(Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+            file.toFile().setReadable(false, false);
+            file.toFile().setReadable(true, true);
+        }
+    }
+
+    // ================== SLOT RESERVATIONS ==================
+
+    // Called under the pool lock: marks one account as being registered by this JVM
+    private static Path reserveSlot() {
+        Path slot = dir().resolve("pending")
+                .resolve(ProcessHandle.current().pid() + "-" + reservations.incrementAndGet());
+        try {
+            Files.createDirectories(slot.getParent());
+            Files.createFile(slot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return slot;
+    }
+
+    // Called under the pool lock: slots reserved by live JVMs; markers of dead JVMs are removed
+    private static int pendingSlots() {
+        Path pending = dir().resolve("pending");
+        if (!Files.isDirectory(pending)) {
+            return 0;
+        }
+        List<Path> markers;
+        try (Stream<Path> listing = Files.list(pending)) {
+            markers = listing.collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int count = 0;
+        for (Path marker : markers) {
+            String name = marker.getFileName().toString();
+            int dash = name.indexOf('-');
+            boolean alive = false;
+            try {
+                alive = dash > 0 && ProcessHandle.of(Long.parseLong(name.substring(0, dash))).isPresent();
+            } catch (NumberFormatException ignored) {
+                // not a slot marker
+            }
+            if (alive) {
+                count++;
+            } else {
+                deleteQuietly(marker);
+            }
+        }
+        return count;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            Log.warn("Account pool: " + file + " nuk u fshi: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the action while holding the pool-wide lock (serializes pool file updates across JVMs).
+     * Threads of the same JVM are serialized by the class monitor first, since file locks are per process.
+     * Keep actions short: no browser work under this lock.
+     */
+    private static synchronized <T> T withPoolLock(Supplier<T> action) {
+        try {
+            Files.createDirectories(dir());
+            try (FileChannel channel = FileChannel.open(dir().resolve("pool.lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    return action.get();
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package core.utilities;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * AdaptiveTimeouts:
+ * Per-wait-site latency history and the timeouts derived from it.
+ * A wait site is the page-object method that called the wait plus what it waits for, e.g.
+ * "LoginPage.login visibility of element located by By.id: email" (lambda conditions: the method alone), so
+ * edits elsewhere in the file keep a site's history. Sites not waited on for adaptiveTimeoutPruneRuns runs are
+ * dropped from the store. Once a site has enough samples its timeout becomes p99 x adaptiveTimeoutFactor,
+ * clamped to [adaptiveTimeoutFloorMs, adaptiveTimeoutCeilingMs]; until then the caller's own timeout is used.
+ * Samples are kept in memory during the run and written back once at suite end (see flush).
+ */
+public class AdaptiveTimeouts {
+
+    // Samples kept per site (oldest dropped first)
+    private static final int SAMPLES_KEPT = 200;
+
+    // First record of the store: format marker, followed by the number of runs flushed so far
+    private static final String HEADER = "#adaptive-timeouts-v2";
+
+    // Parts of condition descriptions that change between runs: driver/session prefix of elements, current url/title
+    private static final Pattern ELEMENT_PREFIX = Pattern.compile("\\[\\[[^\\]]*\\]\\s*->\\s*");
+    private static final Pattern CURRENT_VALUE = Pattern.compile("\\.? Current (url|title): \"[^\"]*\"");
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final Set<String> SELF = Set.of(
+            AdaptiveTimeouts.class.getName(), AdaptiveWait.class.getName(), WaitUtils.class.getName());
+
+    private static Map<String, Deque<Sample>> samples;
+
+    // Run number of this JVM's flush, and the last run each site was waited on
+    private static int run;
+    private static Map<String, Integer> lastSeen;
+
+    private static final class Sample {
+        final long timestamp;
+        final int millis;
+
+        Sample(long timestamp, int millis) {
+            this.timestamp = timestamp;
+            this.millis = millis;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("adaptiveTimeoutsEnabled", false);
+    }
+
+    private static Path file() {
+        String configured = ConfigurationReader.get("adaptiveTimeoutsFile");
+        return Path.of(configured == null || configured.isBlank() ? "test-history/wait-latency.bin" : configured);
+    }
+
+    /**
+     * Identifies the calling wait site: nearest frame of this project outside the wait helpers (class and
+     * method, no line number) plus the description of the condition, if it has one.
+     */
+    public static String currentSite(Object condition) {
+        Optional<String> site = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("core.") && !SELF.contains(f.getClassName()))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName()));
+        String description = describe(condition);
+        return site.orElse("unknown") + (description.isEmpty() ? "" : " " + description);
+    }
+
+    // ExpectedConditions describe themselves (locator included); lambdas only have an identity hash
+    private static String describe(Object condition) {
+        String text = String.valueOf(condition);
+        if (text.contains("$$Lambda") || text.matches(".*\\$\\d+@[0-9a-f]+")) {
+            return "";
+        }
+        text = ELEMENT_PREFIX.matcher(text).replaceAll("[");
+        text = CURRENT_VALUE.matcher(text).replaceAll("");
+        return text.length() > 200 ? text.substring(0, 200) : text;
+    }
+
+    /**
+     * Timeout to use at a site; falls back to the caller's default while disabled or still learning.
+     */
+    public static synchronized Duration timeoutFor(String site, Duration fallback) {
+        if (!isEnabled()) {
+            return fallback;
+        }
+        Deque<Sample> history = load().get(site);
+        if (history == null || history.size() < ConfigurationReader.getInt("adaptiveTimeoutMinSamples", 20)) {
+            return fallback;
+        }
+
+        long adaptive = (long) (percentile(history, 0.99) * ConfigurationReader.getDouble("adaptiveTimeoutFactor", 3.0));
+        long floor = ConfigurationReader.getInt("adaptiveTimeoutFloorMs", 2000);
+        long ceiling = ConfigurationReader.getInt("adaptiveTimeoutCeilingMs", 30000);
+        return Duration.ofMillis(Math.max(floor, Math.min(ceiling, adaptive)));
+    }
+
+    /**
+     * Records how long a wait at the site took.
+     */
+    public static synchronized void record(String site, long millis) {
+        if (!isEnabled()) {
+            return;
+        }
+        Deque<Sample> history = load().computeIfAbsent(site, k -> new ArrayDeque<>());
+        lastSeen.put(site, run);
+        history.addLast(new Sample(System.currentTimeMillis(), (int) Math.min(millis, Integer.MAX_VALUE)));
+        while (history.size() > SAMPLES_KEPT) {
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * Sites whose recent median latency is more than adaptiveDriftThreshold above their older median,
+     * formatted as report lines (newest half of the samples vs oldest half).
+     */
+    public static synchronized List<String> driftReport() {
+        double threshold = ConfigurationReader.getDouble("adaptiveDriftThreshold", 0.25);
+        int minSamples = ConfigurationReader.getInt("adaptiveTimeoutMinSamples", 20);
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Deque<Sample>> e : load().entrySet()) {
+            List<Sample> all = new ArrayList<>(e.getValue());
+            if (all.size() < minSamples) {
+                continue;
+            }
+            int half = all.size() / 2;
+            long older = percentile(all.subList(0, half), 0.5);
+            long recent = percentile(all.subList(half, all.size()), 0.5);
+            if (older > 0 && recent > older * (1 + threshold)) {
+                lines.add(String.format("%-50s median %5d ms -> %5d ms (+%d%%)",
+                        e.getKey(), older, recent, Math.round((recent - older) * 100.0 / older)));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the current samples back to the store (whole file, replaced atomically), dropping the sites
+     * not waited on for adaptiveTimeoutPruneRuns runs. No-op while disabled.
+     */
+    public static synchronized void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+        load(); // a run that waited nowhere still counts towards pruning
+        int pruneRuns = ConfigurationReader.getInt("adaptiveTimeoutPruneRuns", 20);
+        int pruned = 0;
+        for (String site : new ArrayList<>(samples.keySet())) {
+            if (run - lastSeen.getOrDefault(site, 0) >= pruneRuns) {
+                samples.remove(site);
+                lastSeen.remove(site);
+                pruned++;
+            }
+        }
+        if (pruned > 0) {
+            Log.info("AdaptiveTimeouts: " + pruned + " wait sites pa përdorim prej " + pruneRuns + " ekzekutimesh u hoqën.");
+        }
+
+        Path tmp = file().resolveSibling(file().getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file().toAbsolutePath().getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeUTF(HEADER);
+                out.writeInt(run);
+                for (Map.Entry<String, Deque<Sample>> e : samples.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    out.writeInt(lastSeen.getOrDefault(e.getKey(), run));
+                    out.writeInt(e.getValue().size());
+                    for (Sample sample : e.getValue()) {
+                        out.writeLong(sample.timestamp);
+                        out.writeInt(sample.millis);
+                    }
+                }
+            }
+            Files.move(tmp, file(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Log.warn("Wait latency nuk u ruajt: " + file() + " (" + e + ")");
+        }
+    }
+
+    // ================== STORE ==================
+
+    private static Map<String, Deque<Sample>> load() {
+        if (samples != null) {
+            return samples;
+        }
+
+        samples = new HashMap<>();
+        lastSeen = new HashMap<>();
+        run = 1;
+        if (!Files.exists(file())) {
+            return samples;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file())))) {
+            if (!HEADER.equals(in.readUTF())) {
+                // store of the line-number keyed sites: none of its keys would match again
+                Log.info("AdaptiveTimeouts: formati i vjetër i " + file() + " u la mënjanë, mësimi rifillon.");
+                return samples;
+            }
+            run = in.readInt() + 1;
+            while (true) {
+                String site;
+                try {
+                    site = in.readUTF();
+                } catch (EOFException end) {
+                    break;
+                }
+                lastSeen.put(site, in.readInt());
+                int count = in.readInt();
+                Deque<Sample> history = new ArrayDeque<>();
+                for (int i = 0; i < count; i++) {
+                    history.addLast(new Sample(in.readLong(), in.readInt()));
+                }
+                samples.put(site, history);
+            }
+        } catch (EOFException e) {
+            // last record was cut off – keep what was read, the next flush rewrites the file
+        } catch (IOException e) {
+            Log.warn("Wait latency nuk u lexua: " + file() + " (" + e + "), mësimi rifillon nga " + samples.size() + " site");
+        }
+        return samples;
+    }
+
+    private static long percentile(Iterable<Sample> history, double p) {
+        List<Integer> values = new ArrayList<>();
+        history.forEach(s -> values.add(s.millis));
+        if (values.isEmpty()) {
+            return 0;
+        }
+        values.sort(null);
+        int index = (int) Math.ceil(p * values.size()) - 1;
+        return values.get(Math.max(0, Math.min(values.size() - 1, index)));
+    }
+}
@@ -0,0 +1,48 @@
+package core.utilities;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * AdaptiveWait:
+ * Drop-in WebDriverWait whose timeout is chosen per call site by AdaptiveTimeouts
+ * (the constructor's timeout is the fallback), and which records every wait's latency.
+ * With adaptiveTimeoutsEnabled=false it is a plain WebDriverWait: nothing is looked up or recorded.
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    private final Duration defaultTimeout;
+
+    public AdaptiveWait(WebDriver driver, Duration defaultTimeout) {
+        super(driver, defaultTimeout);
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        if (!AdaptiveTimeouts.isEnabled()) {
+            return super.until(isTrue);
+        }
+        String site = AdaptiveTimeouts.currentSite(isTrue);
+        Duration timeout = AdaptiveTimeouts.timeoutFor(site, defaultTimeout);
+        withTimeout(timeout);
+
+        long start = System.nanoTime();
+        try {
+            V result = super.until(isTrue);
+            AdaptiveTimeouts.record(site, (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (TimeoutException e) {
+            // Only a limit tighter than the default may have cut a slow-but-healthy wait short;
+            // recording it lets the site loosen again on the next runs
+            if (timeout.compareTo(defaultTimeout) < 0) {
+                AdaptiveTimeouts.record(site, timeout.toMillis());
+            }
+            throw e;
+        }
+    }
+}
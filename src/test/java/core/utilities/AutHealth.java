@@ -0,0 +1,139 @@
+package core.utilities;
+
+import org.testng.SkipException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AutHealth:
+ * Preflight for the application under test. Probes the base URL and the key routes the tests use
+ * (category, cart, login) concurrently over HTTP, repeats the probe to warm the server's caches,
+ * and opens a circuit breaker when a route fails or answers slower than healthMaxResponseMs.
+ * While the circuit is open every remaining test is skipped with the recorded reason
+ * instead of running into its own timeoutSeconds waits.
+ */
+public class AutHealth {
+
+    private static final String[] ROUTES = {"", "women.html", "checkout/cart/", "customer/account/login/"};
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private static volatile String openReason;
+
+    private record Probe(String url, int status, long millis, String error) {
+        boolean ok(long maxMillis) {
+            return error == null && status < 400 && millis <= maxMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-60s %s %6d ms", url, error != null ? error : "HTTP " + status, millis);
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("healthCheckEnabled", true);
+    }
+
+    public static boolean isOpen() {
+        return openReason != null;
+    }
+
+    /**
+     * Called at the start of every test: skips it with the breaker's reason while the circuit is open.
+     */
+    public static void skipIfOpen() {
+        String reason = openReason;
+        if (reason != null) {
+            throw new SkipException("AUT jo i shëndetshëm – " + reason);
+        }
+    }
+
+    /**
+     * Probes all routes healthWarmupRounds times; the verdict is taken from the last (warm) round.
+     * An unreachable AUT is reported after the first round without further warm-up.
+     */
+    public static void preflight() {
+        if (!isEnabled()) {
+            return;
+        }
+        int rounds = Math.max(1, ConfigurationReader.getInt("healthWarmupRounds", 2));
+        List<Probe> probes = List.of();
+        for (int round = 1; round <= rounds; round++) {
+            probes = probeAll();
+            Log.info("AUT preflight, raundi " + round + ":");
+            probes.forEach(p -> Log.info("  " + p));
+            if (probes.stream().allMatch(p -> p.error() != null)) {
+                break;
+            }
+        }
+        evaluate(probes, "preflight");
+    }
+
+    /**
+     * Re-probes once after a test failed on a timeout, so an AUT that went down mid-run
+     * stops the remaining tests too.
+     */
+    public static void recheck(String trigger) {
+        if (!isEnabled() || isOpen()) {
+            return;
+        }
+        List<Probe> probes = probeAll();
+        Log.info("AUT recheck pas " + trigger + ":");
+        probes.forEach(p -> Log.info("  " + p));
+        evaluate(probes, "recheck pas " + trigger);
+    }
+
+    // ================== PROBING ==================
+
+    private static void evaluate(List<Probe> probes, String phase) {
+        long maxMillis = ConfigurationReader.getInt("healthMaxResponseMs", 8000);
+        for (Probe probe : probes) {
+            if (!probe.ok(maxMillis)) {
+                openReason = phase + ": " + probe.url() + " -> "
+                        + (probe.error() != null ? probe.error()
+                        : probe.status() >= 400 ? "HTTP " + probe.status()
+                        : probe.millis() + " ms (limit " + maxMillis + " ms)");
+                Log.warn("Circuit breaker u hap: " + openReason);
+                return;
+            }
+        }
+    }
+
+    private static List<Probe> probeAll() {
+        String base = ConfigurationReader.get("url");
+        String root = base.endsWith("/") ? base : base + "/";
+        long timeoutMs = ConfigurationReader.getInt("healthMaxResponseMs", 8000) * 2L;
+
+        List<CompletableFuture<Probe>> futures = new ArrayList<>();
+        for (String route : ROUTES) {
+            String url = root + route;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            futures.add(CLIENT.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> new Probe(url,
+                            response != null ? response.statusCode() : -1,
+                            (System.nanoTime() - start) / 1_000_000,
+                            error != null ? describe(error) : null)));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static String describe(Throwable error) {
+        Throwable root = error.getCause() != null ? error.getCause() : error;
+        return root.getClass().getSimpleName();
+    }
+}
@@ -1,9 +1,14 @@
 package core.utilities;
 
+import core.globals.Rendering;
+import core.globals.SharedBrowser;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
+import java.lang.reflect.Method;
+
 /**
  * BaseTest:
  * Centralizes WebDriver setup and teardown for all test classes.
@@ -14,18 +19,46 @@ public class BaseTest {
     protected WebDriver driver;
 
     @BeforeMethod
-    public void setUp() {
-        // Initialize WebDriver instance (browser type defined in DriverFactory).
-        driver = DriverFactory.getDriver();
+    public void setUp(Method method) {
+        // Correlation id of this test on every log line of its thread (see Log).
+        Log.begin(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+
+        // Skip straight away while the AUT circuit breaker is open (see AutHealth).
+        AutHealth.skipIfOpen();
+
+        // Initialize WebDriver instance: DOM-only tests may get the in-JVM driver, see @Rendering.
+        Rendering rendering = method.getDeclaringClass().getAnnotation(Rendering.class);
+        Rendering.Mode mode = rendering == null ? Rendering.Mode.VISUAL : rendering.value();
+        boolean shareable = method.getDeclaringClass().isAnnotationPresent(SharedBrowser.class);
+
+        // An account of its own from the pool, before the browser starts (provisioning may need one).
+        // A tab of the shared browser uses the account that browser leased instead (see TabScheduler).
+        if (AccountPool.isEnabled() && !TabScheduler.serves(mode, shareable)) {
+            AccountPool.acquire(method);
+        }
+
+        // Read-only tests may get a tab of one shared, signed-in browser instead, see @SharedBrowser.
+        driver = DriverFactory.getDriver(mode, shareable);
+
+        // Disable animations/transitions on every new document unless the test asserts on motion.
+        if (MotionSuppression.isEnabled() && (rendering == null || !rendering.motion())) {
+            MotionSuppression.suppress(driver);
+        }
+        // Page-side helpers (window.__qa) present in every document from the first navigation on.
+        JsHelpers.install(driver);
         // Navigate to base application URL (defined in config.properties).
 
         driver.get(ConfigurationReader.get("url"));
     }
 
-    @AfterMethod
-    public void tearDown() {
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
         // Clean up driver instance and close browser after each test.
+        // (alwaysRun: also after a failed setUp, so a leased account or a started browser is not leaked)
 
+        MotionSuppression.reset();
+        JsHelpers.reset();
         DriverFactory.quitDriver();
+        AccountPool.finish(result.getMethod().getConstructorOrMethod().getMethod(), result.isSuccess());
     }
 }
@@ -0,0 +1,344 @@
+package core.utilities;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BrowserDaemon:
+ * Developer mode for fast local iteration (browserDaemonEnabled=true). Chrome is started once with a remote
+ * debugging port and its own profile, and outlives the test JVM; every later run attaches to it through
+ * ChromeOptions debuggerAddress instead of launching a browser. The chromedriver path resolved on the first run
+ * is remembered next to the profile, so WebDriverManager is not consulted again (until Chrome updates itself and
+ * the session cannot be created with it). The launched Chrome's pid, start time and profile are remembered too:
+ * only that process is attached to and reset, never another program that happens to answer on the port.
+ * Closing a daemon session resets the browser (extra tabs, cookies, storage of the AUT) instead of quitting it,
+ * so a run saves the browser launch and the driver lookup, not the login. The chromedriver of a session is
+ * tracked by the ProcessReaper like any other; the daemon Chrome is not.
+ * One test at a time uses the daemon; parallel tests get their own Chrome as usual.
+ */
+public class BrowserDaemon {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private static final String STATE_FILE = "daemon.properties";
+
+    // The daemon has a single set of windows: only one attached session at a time
+    private static final AtomicBoolean attached = new AtomicBoolean();
+
+    // chromedriver of the attached session, tracked by the ProcessReaper until release()
+    private static volatile ProcessHandle driverRoot;
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("browserDaemonEnabled", false);
+    }
+
+    /**
+     * Attaches to the daemon (launching it if needed). Returns null when another session is attached already.
+     */
+    static ChromeDriver attach() {
+        if (!attached.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            int port = ConfigurationReader.getInt("browserDaemonPort", 9222);
+            Properties state = loadState();
+            if (daemonProcess(state, port) == null) {
+                if (isListening(port)) {
+                    throw new IllegalStateException("Porti " + port
+                            + " përdoret nga një proces që nuk është Chrome daemon – ndrysho browserDaemonPort");
+                }
+                launch(port, state);
+            } else {
+                awaitListening(port);
+            }
+
+            System.setProperty("webdriver.chrome.driver", driverPath(state, port));
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", "127.0.0.1:" + port);
+            try {
+                return connect(options);
+            } catch (SessionNotCreatedException e) {
+                // Chrome updated itself since the driver path was saved: resolve a matching chromedriver once more
+                Log.warn("chromedriver i ruajtur nuk u lidh me Chrome daemon, po zgjidhet përsëri: " + e.getMessage());
+                System.setProperty("webdriver.chrome.driver", resolveDriver(state, port));
+                return connect(options);
+            }
+        } catch (RuntimeException e) {
+            attached.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a chromedriver for the daemon session and tracks it with the ProcessReaper (a crashed JVM must not
+     * leave it behind). Its tree holds no Chrome: the daemon was launched by this class, not by the driver.
+     */
+    private static ChromeDriver connect(ChromeOptions options) {
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        ChromeDriver chrome = new ChromeDriver(service, options);
+        driverRoot = ResourceGovernor.driverProcess(service.getUrl().getPort());
+        ProcessReaper.track(driverRoot);
+        return chrome;
+    }
+
+    /**
+     * The daemon's Chrome browser process, or null if it cannot be found.
+     */
+    static ProcessHandle process() {
+        return daemonProcess(loadState(), ConfigurationReader.getInt("browserDaemonPort", 9222));
+    }
+
+    /**
+     * The Chrome this class launched, as recorded in daemon.properties: alive, same start time (the pid was not
+     * reused), and started with this profile and port. Null otherwise.
+     */
+    private static ProcessHandle daemonProcess(Properties state, int port) {
+        String pid = state.getProperty("pid");
+        String profile = profileDir().toAbsolutePath().toString();
+        if (pid == null || !profile.equals(state.getProperty("profile"))
+                || !String.valueOf(port).equals(state.getProperty("port"))) {
+            return null;
+        }
+        ProcessHandle chrome;
+        try {
+            chrome = ProcessHandle.of(Long.parseLong(pid)).filter(ProcessHandle::isAlive).orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (chrome == null || !startedAt(chrome).equals(state.getProperty("started"))) {
+            return null;
+        }
+        boolean ours = chrome.info().arguments()
+                .map(args -> Arrays.asList(args).containsAll(
+                        List.of("--user-data-dir=" + profile, "--remote-debugging-port=" + port)))
+                .orElse(true); // arguments not visible on this OS: pid + start time decide
+        return ours ? chrome : null;
+    }
+
+    private static String startedAt(ProcessHandle process) {
+        return process.info().startInstant().map(i -> String.valueOf(i.toEpochMilli())).orElse("");
+    }
+
+    /**
+     * Leaves the daemon as a fresh browser for the next test: one blank tab, no cookies, no AUT storage.
+     * The AUT login cookie goes too, since tests start as a guest and sign in themselves: every run still logs in.
+     * The chromedriver session ends; Chrome keeps running, unless recycle is set (the next run relaunches it).
+     */
+    static void release(WebDriver driver, boolean recycle) {
+        if (recycle) {
+            ProcessHandle chrome = process();
+            driver.quit();
+            if (chrome != null) {
+                chrome.descendants().forEach(ProcessHandle::destroy);
+                chrome.destroy();
+            }
+            untrackDriver();
+            attached.set(false);
+            return;
+        }
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            CdpUtils.session(driver).ifPresent(devTools -> clearState(devTools));
+            driver.get("about:blank");
+        } catch (RuntimeException e) {
+            Log.warn("Rivendosja e browser daemon dështoi: " + e.getMessage());
+        } finally {
+            // debuggerAddress sessions leave the browser running on quit
+            driver.quit();
+            untrackDriver();
+            attached.set(false);
+        }
+    }
+
+    private static void untrackDriver() {
+        ProcessReaper.untrack(driverRoot);
+        driverRoot = null;
+    }
+
+    private static void clearState(DevTools devTools) {
+        URI base = URI.create(ConfigurationReader.get("url"));
+        String origin = base.getScheme() + "://" + base.getHost();
+        CdpUtils.send(devTools, "Network.clearBrowserCookies", Map.of());
+        CdpUtils.send(devTools, "Storage.clearDataForOrigin", Map.of(
+                "origin", origin,
+                "storageTypes", "local_storage,session_storage,indexeddb,cache_storage,service_workers"));
+    }
+
+    // ================== LAUNCH ==================
+
+    private static void launch(int port, Properties state) {
+        WebDriverManager wdm = WebDriverManager.chromedriver();
+        wdm.setup();
+        state.setProperty("chromedriver", wdm.getDownloadedDriverPath());
+
+        String binary = ConfigurationReader.get("browserDaemonBinary");
+        if (binary == null || binary.isBlank()) {
+            binary = wdm.getBrowserPath()
+                    .map(Path::toString)
+                    .orElseThrow(() -> new IllegalStateException("Chrome nuk u gjet – vendos browserDaemonBinary"));
+        }
+
+        Path profile = profileDir().toAbsolutePath();
+        Process chrome;
+        try {
+            Files.createDirectories(profile);
+            chrome = new ProcessBuilder(binary,
+                    "--remote-debugging-port=" + port,
+                    "--user-data-dir=" + profile,
+                    "--no-first-run",
+                    "--no-default-browser-check",
+                    "--start-maximized",
+                    "about:blank")
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chrome daemon nuk u nis", e);
+        }
+        state.setProperty("pid", String.valueOf(chrome.pid()));
+        state.setProperty("started", startedAt(chrome.toHandle()));
+        state.setProperty("profile", profile.toString());
+        state.setProperty("port", String.valueOf(port));
+        saveState(state);
+
+        awaitListening(port);
+        Log.info("Chrome daemon u nis në portin " + port + " (profili: " + profile + ")");
+    }
+
+    private static void awaitListening(int port) {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!isListening(port)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Chrome daemon nuk u përgjigj në portin " + port);
+            }
+            sleep(200);
+        }
+    }
+
+    private static boolean isListening(int port) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/json/version"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            return CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String driverPath(Properties state, int port) {
+        String path = state.getProperty("chromedriver");
+        if (path == null || !Files.isExecutable(Paths.get(path))) {
+            path = resolveDriver(state, port);
+        }
+        return path;
+    }
+
+    // Resolves the chromedriver for the version the running daemon reports, and remembers it
+    private static String resolveDriver(Properties state, int port) {
+        WebDriverManager wdm = WebDriverManager.chromedriver();
+        String version = browserVersion(port);
+        if (version != null) {
+            wdm.browserVersion(version);
+        }
+        wdm.setup();
+        String path = wdm.getDownloadedDriverPath();
+        state.setProperty("chromedriver", path);
+        saveState(state);
+        return path;
+    }
+
+    // Major version from /json/version ("Browser": "Chrome/124.0.6367.91"), or null
+    private static String browserVersion(int port) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/json/version"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            Map<String, Object> info = new Json().toType(
+                    CLIENT.send(request, HttpResponse.BodyHandlers.ofString()).body(), Json.MAP_TYPE);
+            String browser = String.valueOf(info.get("Browser"));
+            int slash = browser.indexOf('/');
+            int dot = browser.indexOf('.', slash + 1);
+            return slash < 0 || dot < 0 ? null : browser.substring(slash + 1, dot);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // ================== STATE ==================
+
+    private static Path profileDir() {
+        String dir = ConfigurationReader.get("browserDaemonProfileDir");
+        return Paths.get(dir == null ? "target/chrome-daemon" : dir);
+    }
+
+    private static Properties loadState() {
+        Properties state = new Properties();
+        Path file = profileDir().resolve(STATE_FILE);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                state.load(in);
+            } catch (IOException e) {
+                Log.warn("Gjendja e daemon nuk u lexua: " + e.getMessage());
+            }
+        }
+        return state;
+    }
+
+    private static void saveState(Properties state) {
+        try {
+            Files.createDirectories(profileDir());
+            try (OutputStream out = Files.newOutputStream(profileDir().resolve(STATE_FILE))) {
+                state.store(out, "Chrome daemon (BrowserDaemon)");
+            }
+        } catch (IOException e) {
+            Log.warn("Gjendja e daemon nuk u ruajt: " + e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package core.utilities;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BrowserLifecycle:
+ * Takes browser start and stop out of the suite's critical path (browserPipelineEnabled=true).
+ * A test takes a pre-spawned Chrome if one is warm, and the next one starts in the background right away;
+ * finished sessions are quit on the background executor instead of blocking tearDown.
+ * All live browsers (in use, warm, being quit) count against browserMaxConcurrent; pre-spawning only uses
+ * a free slot, a test blocks for one only when none is left. Memory/CPU admission is ResourceGovernor's.
+ */
+public class BrowserLifecycle {
+
+    private static final Semaphore browsers = new Semaphore(ConfigurationReader.getInt("browserMaxConcurrent", 6), true);
+
+    private static final AtomicInteger threadIds = new AtomicInteger();
+
+    // Background starts and quits; created on first use, so a later suite in the same JVM gets a new one
+    private static ExecutorService workers;
+
+    // Browsers being started ahead of the tests that will use them
+    private static final Queue<Future<BrowserSession>> warm = new ConcurrentLinkedQueue<>();
+
+    // Entries of warm, reserved before the start is submitted (the queue size alone is checked too late)
+    private static final AtomicInteger warmCount = new AtomicInteger();
+
+    // Sessions handed out by acquire(), i.e. holding a slot
+    private static final Set<BrowserSession> owned = ConcurrentHashMap.newKeySet();
+
+    private static volatile boolean shuttingDown;
+
+    /**
+     * True when browserPipelineEnabled=true (default); the browser daemon has a single Chrome and opts out.
+     */
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("browserPipelineEnabled", true) && !BrowserDaemon.isEnabled();
+    }
+
+    /**
+     * Returns a started Chrome session (a warm one if ready) and starts pre-spawning the next.
+     */
+    static BrowserSession acquire() {
+        BrowserSession session = null;
+        Future<BrowserSession> next = warm.poll();
+        if (next != null) {
+            warmCount.decrementAndGet();
+            try {
+                session = next.get();
+            } catch (ExecutionException e) {
+                Log.warn("Browser-i i parangrohur dështoi, po nis një të ri: " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (session == null) {
+            browsers.acquireUninterruptibly();
+            ResourceGovernor.admit();
+            try {
+                session = BrowserSession.start();
+            } catch (RuntimeException e) {
+                browsers.release();
+                throw e;
+            }
+        }
+        owned.add(session);
+        prespawn();
+        return session;
+    }
+
+    /**
+     * Quits the session in the background. Returns false for sessions not started here (caller closes them).
+     */
+    static boolean release(BrowserSession session) {
+        if (!owned.remove(session)) {
+            return false;
+        }
+        workers().submit(() -> {
+            try {
+                session.close();
+            } catch (RuntimeException e) {
+                Log.warn("Mbyllja e browser-it dështoi: " + e.getMessage());
+            } finally {
+                browsers.release();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Suite end: quits the warm browsers nobody took and waits for all background quits.
+     * Leaves the pipeline ready for another suite in the same JVM.
+     */
+    public static void shutdown() {
+        synchronized (BrowserLifecycle.class) {
+            shuttingDown = true;
+        }
+        for (Future<BrowserSession> next; (next = warm.poll()) != null; ) {
+            warmCount.decrementAndGet();
+            try {
+                BrowserSession session = next.get();
+                owned.add(session);
+                release(session);
+            } catch (ExecutionException e) {
+                // failed start: slot already returned
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ExecutorService stopping;
+        synchronized (BrowserLifecycle.class) {
+            stopping = workers;
+            workers = null;
+        }
+        if (stopping != null) {
+            stopping.shutdown();
+            try {
+                if (!stopping.awaitTermination(60, TimeUnit.SECONDS)) {
+                    Log.warn("Disa browser-a nuk u mbyllën brenda 60 s.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (BrowserLifecycle.class) {
+            shuttingDown = false;
+        }
+    }
+
+    private static synchronized ExecutorService workers() {
+        if (workers == null) {
+            workers = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "browser-lifecycle-" + threadIds.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return workers;
+    }
+
+    private static void prespawn() {
+        if (shuttingDown || !reserveWarm()) {
+            return;
+        }
+        if (!browsers.tryAcquire()) {
+            warmCount.decrementAndGet();
+            return;
+        }
+        if (!ResourceGovernor.tryAdmit()) {
+            browsers.release();
+            warmCount.decrementAndGet();
+            return;
+        }
+        synchronized (BrowserLifecycle.class) {
+            if (shuttingDown) {
+                // shutdown() has drained the queue already: nobody would quit this one
+                ResourceGovernor.abandon();
+                browsers.release();
+                warmCount.decrementAndGet();
+                return;
+            }
+            warm.add(workers().submit(() -> {
+                try {
+                    return BrowserSession.start();
+                } catch (RuntimeException e) {
+                    browsers.release();
+                    throw e;
+                }
+            }));
+        }
+    }
+
+    // Takes one of the browserPrespawn warm places, or returns false if all are taken
+    private static boolean reserveWarm() {
+        int limit = ConfigurationReader.getInt("browserPrespawn", 1);
+        for (int count = warmCount.get(); count < limit; count = warmCount.get()) {
+            if (warmCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,204 @@
+package core.utilities;
+
+import core.listeners.LocatorProfilerListener;
+import core.listeners.StepTrailListener;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.WebClient;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BrowserSession:
+ * One launched browser plus the diagnostics attached to it
+ * (screencast ring, DevTools network/console log, page-object step trail).
+ * Created and closed by DriverFactory.
+ */
+public class BrowserSession {
+
+    // Driver handed to tests (decorated so page-object steps are recorded)
+    private final WebDriver driver;
+
+    private final ScreencastRecorder screencast;
+    private final DevToolsLog devToolsLog;
+    private final RingBuffer<String> steps;
+
+    // Attached to the long-lived Chrome of BrowserDaemon: reset on close instead of quitting
+    private boolean daemon;
+
+    // chromedriver of a launched Chrome, tracked by the ProcessReaper until quit
+    private ProcessHandle processRoot;
+
+    private BrowserSession(WebDriver driver, ScreencastRecorder screencast,
+                           DevToolsLog devToolsLog, RingBuffer<String> steps) {
+        this.driver = driver;
+        this.screencast = screencast;
+        this.devToolsLog = devToolsLog;
+        this.steps = steps;
+    }
+
+    /**
+     * Launches Chrome and attaches the diagnostics enabled in config.properties.
+     */
+    static BrowserSession start() {
+        try {
+            if (BrowserDaemon.isEnabled()) {
+                ChromeDriver chrome = BrowserDaemon.attach();
+                if (chrome != null) {
+                    BrowserSession session = withDiagnostics(chrome, BrowserDaemon.process());
+                    session.daemon = true;
+                    return session;
+                }
+            }
+            return start(new ChromeOptions());
+        } catch (RuntimeException e) {
+            ResourceGovernor.abandon();
+            throw e;
+        }
+    }
+
+    /**
+     * Launches the Chrome shared by @SharedBrowser tabs (TabScheduler). Page loads never block a command
+     * (pageLoadStrategy=none); each tab driver waits for its own documents instead.
+     */
+    static BrowserSession startShared() {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(PageLoadStrategy.NONE);
+        try {
+            return start(options);
+        } catch (RuntimeException e) {
+            ResourceGovernor.abandon();
+            throw e;
+        }
+    }
+
+    /**
+     * Session around one tab of the shared browser; closing it closes the tab only.
+     * Diagnostics stay with the shared browser (its CDP session belongs to another target).
+     */
+    static BrowserSession tab(WebDriver tabDriver) {
+        return new BrowserSession(tabDriver, null, null, null);
+    }
+
+    private static BrowserSession start(ChromeOptions options) {
+        // WebDriverManager handles driver binaries for Chrome
+        WebDriverManager.chromedriver().setup();
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        WebDriver chrome = new ChromeDriver(service, options);
+        // Standardize initial browser state
+        chrome.manage().window().maximize();
+        ProcessHandle processRoot = ResourceGovernor.driverProcess(service.getUrl().getPort());
+        ProcessReaper.track(processRoot);
+        BrowserSession session = withDiagnostics(chrome, processRoot);
+        session.processRoot = processRoot;
+        return session;
+    }
+
+    /**
+     * Attaches the diagnostics enabled in config.properties to a running Chrome
+     * and registers its process tree with the ResourceGovernor.
+     */
+    private static BrowserSession withDiagnostics(WebDriver chrome, ProcessHandle processRoot) {
+        ScreencastRecorder screencast = null;
+        if (ConfigurationReader.getBoolean("screencastEnabled", false)) {
+            screencast = ScreencastRecorder.attach(
+                    chrome,
+                    ConfigurationReader.getInt("screencastSeconds", 15),
+                    ConfigurationReader.getInt("screencastMaxFrames", 150)
+            );
+        }
+
+        DevToolsLog devToolsLog = null;
+        RingBuffer<String> steps = null;
+        if (ConfigurationReader.getBoolean("forensicsEnabled", false)) {
+            devToolsLog = DevToolsLog.attach(chrome, ConfigurationReader.getInt("forensicsMaxEntries", 500));
+            steps = new RingBuffer<>(ConfigurationReader.getInt("forensicsMaxSteps", 50));
+        }
+
+        BrowserSession session = new BrowserSession(decorate(chrome, steps), screencast, devToolsLog, steps);
+        ResourceGovernor.register(session, processRoot);
+        return session;
+    }
+
+    /**
+     * Starts the in-JVM HtmlUnit driver (JavaScript on, Chrome profile) for DOM-only tests.
+     * No CDP, so only the step trail of the diagnostics is available.
+     */
+    static BrowserSession startInJvm() {
+        WebDriver htmlUnit = new HtmlUnitDriver(BrowserVersion.CHROME, true) {
+            @Override
+            protected WebClient modifyWebClient(WebClient client) {
+                // Third-party storefront scripts HtmlUnit cannot run must not fail the page load
+                client.getOptions().setThrowExceptionOnScriptError(false);
+                client.getOptions().setPrintContentOnFailingStatusCode(false);
+                return client;
+            }
+        };
+
+        RingBuffer<String> steps = null;
+        if (ConfigurationReader.getBoolean("forensicsEnabled", false)) {
+            steps = new RingBuffer<>(ConfigurationReader.getInt("forensicsMaxSteps", 50));
+        }
+
+        return new BrowserSession(decorate(htmlUnit, steps), null, null, steps);
+    }
+
+    /**
+     * Wraps the raw driver with the enabled WebDriver listeners (step trail, locator profiler).
+     */
+    private static WebDriver decorate(WebDriver raw, RingBuffer<String> steps) {
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (steps != null) {
+            listeners.add(new StepTrailListener(steps));
+        }
+        if (LocatorProfile.isEnabled()) {
+            listeners.add(new LocatorProfilerListener());
+        }
+        return listeners.isEmpty()
+                ? raw
+                : new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(raw);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /** Null when screencast is disabled or unsupported. */
+    public ScreencastRecorder getScreencast() {
+        return screencast;
+    }
+
+    /** Null when forensics are disabled or unsupported. */
+    public DevToolsLog getDevToolsLog() {
+        return devToolsLog;
+    }
+
+    /** Null when forensics are disabled. */
+    public RingBuffer<String> getSteps() {
+        return steps;
+    }
+
+    void close() {
+        if (screencast != null) {
+            screencast.stop();
+        }
+        // Sampled while the process tree is still alive
+        ResourceGovernor.measure(this);
+        if (daemon) {
+            BrowserDaemon.release(driver, ResourceGovernor.shouldRecycle(this));
+        } else {
+            driver.quit();
+        }
+        ResourceGovernor.unregister(this);
+        ProcessReaper.untrack(processRoot);
+    }
+}
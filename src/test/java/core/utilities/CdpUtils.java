@@ -0,0 +1,60 @@
+package core.utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * CdpUtils:
+ * Thin helpers over Chrome DevTools Protocol using raw method names,
+ * so the code does not depend on a specific devtools-vXXX binding matching the local Chrome.
+ */
+public class CdpUtils {
+
+    /**
+     * Returns a DevTools session for the given driver, or empty if the browser does not support CDP.
+     */
+    public static Optional<DevTools> session(WebDriver driver) {
+        // A tab of the shared browser would get the DevTools session of another tab
+        if (!(driver instanceof HasDevTools) || TabScheduler.isTab(driver)) {
+            return Optional.empty();
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            return Optional.of(devTools);
+        } catch (RuntimeException e) {
+            Log.warn("DevTools nuk u hap: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Sends a command and waits for its result object.
+     */
+    public static Map<String, Object> send(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<>(method, params, Json.MAP_TYPE));
+    }
+
+    /**
+     * Sends a command without waiting for a response.
+     * Required inside event handlers, which run on the single CDP dispatch thread.
+     */
+    public static void sendNoWait(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params).doesNotSendResponse());
+    }
+
+    /**
+     * Subscribes to a CDP event; the handler receives the raw "params" object.
+     */
+    public static void on(DevTools devTools, String event, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(event, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+}
@@ -36,9 +36,10 @@ public class ConfigurationReader {
 
     /**
      * Retrieves a configuration value by key (as String).
+     * A JVM system property with the same name (e.g. -DvisualApprove=true) overrides the file value.
      */
     public static String get(String key) {
-        return props.getProperty(key);
+        return System.getProperty(key, props.getProperty(key));
     }
     /**
      * Retrieves a configuration value and parses it as int.
@@ -46,4 +47,28 @@ public class ConfigurationReader {
     public static int getInt(String key) {
         return Integer.parseInt(get(key));
     }
+
+    /**
+     * Retrieves an optional int value, falling back to the default when the key is missing.
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Retrieves an optional double value, falling back to the default when the key is missing.
+     */
+    public static double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Retrieves an optional boolean value, falling back to the default when the key is missing.
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
 }
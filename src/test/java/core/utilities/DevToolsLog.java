@@ -0,0 +1,168 @@
+package core.utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DevToolsLog:
+ * Collects a HAR-like network log and the browser console through CDP while a test runs.
+ * Both are kept in bounded ring buffers; nothing is serialized unless a failure bundle is written.
+ */
+public class DevToolsLog {
+
+    private final RingBuffer<Map<String, Object>> network;
+    private final RingBuffer<Map<String, Object>> console;
+
+    // Requests that have started but not finished yet (also capped)
+    private final Map<String, Map<String, Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Double> startTimes = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+
+    private DevToolsLog(int maxEntries) {
+        this.network = new RingBuffer<>(maxEntries);
+        this.console = new RingBuffer<>(maxEntries);
+        this.maxInFlight = maxEntries;
+    }
+
+    /**
+     * Enables Network/Runtime/Log domains on the given driver. Returns null if the browser has no DevTools.
+     */
+    public static DevToolsLog attach(WebDriver driver, int maxEntries) {
+        DevTools devTools = CdpUtils.session(driver).orElse(null);
+        if (devTools == null) {
+            return null;
+        }
+
+        DevToolsLog log = new DevToolsLog(maxEntries);
+        log.listen(devTools);
+        return log;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void listen(DevTools devTools) {
+
+        // ===== Network =====
+        CdpUtils.on(devTools, "Network.requestWillBeSent", params -> {
+            if (inFlight.size() >= maxInFlight) {
+                return;
+            }
+            Map<String, Object> request = (Map<String, Object>) params.get("request");
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("startedDateTime", wallTime(params.get("wallTime")));
+            entry.put("resourceType", params.get("type"));
+            entry.put("request", Map.of(
+                    "method", String.valueOf(request.get("method")),
+                    "url", String.valueOf(request.get("url"))
+            ));
+
+            String id = (String) params.get("requestId");
+            inFlight.put(id, entry);
+            startTimes.put(id, number(params.get("timestamp")));
+        });
+
+        CdpUtils.on(devTools, "Network.responseReceived", params -> {
+            Map<String, Object> entry = inFlight.get((String) params.get("requestId"));
+            if (entry == null) {
+                return;
+            }
+            Map<String, Object> response = (Map<String, Object>) params.get("response");
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("status", response.get("status"));
+            summary.put("statusText", response.get("statusText"));
+            summary.put("mimeType", response.get("mimeType"));
+            summary.put("fromDiskCache", response.get("fromDiskCache"));
+            entry.put("response", summary);
+        });
+
+        CdpUtils.on(devTools, "Network.loadingFinished", params -> {
+            Map<String, Object> entry = complete(params);
+            if (entry != null) {
+                entry.put("encodedDataLength", params.get("encodedDataLength"));
+                network.add(entry);
+            }
+        });
+
+        CdpUtils.on(devTools, "Network.loadingFailed", params -> {
+            Map<String, Object> entry = complete(params);
+            if (entry != null) {
+                entry.put("error", params.get("errorText"));
+                network.add(entry);
+            }
+        });
+
+        // ===== Console =====
+        CdpUtils.on(devTools, "Runtime.consoleAPICalled", params -> {
+            StringBuilder text = new StringBuilder();
+            for (Map<String, Object> arg : (List<Map<String, Object>>) params.getOrDefault("args", List.of())) {
+                Object value = arg.containsKey("value") ? arg.get("value") : arg.get("description");
+                text.append(text.length() == 0 ? "" : " ").append(value);
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("time", wallTime(number(params.get("timestamp")) / 1000.0));
+            entry.put("level", params.get("type"));
+            entry.put("text", text.toString());
+            console.add(entry);
+        });
+
+        CdpUtils.on(devTools, "Log.entryAdded", params -> {
+            Map<String, Object> logEntry = (Map<String, Object>) params.get("entry");
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("time", wallTime(number(logEntry.get("timestamp")) / 1000.0));
+            entry.put("level", logEntry.get("level"));
+            entry.put("source", logEntry.get("source"));
+            entry.put("text", logEntry.get("text"));
+            entry.put("url", logEntry.get("url"));
+            console.add(entry);
+        });
+
+        CdpUtils.send(devTools, "Network.enable", Map.of());
+        CdpUtils.send(devTools, "Runtime.enable", Map.of());
+        CdpUtils.send(devTools, "Log.enable", Map.of());
+    }
+
+    private Map<String, Object> complete(Map<String, Object> params) {
+        String id = (String) params.get("requestId");
+        Map<String, Object> entry = inFlight.remove(id);
+        Double start = startTimes.remove(id);
+        if (entry != null && start != null) {
+            // CDP timestamps are monotonic seconds
+            entry.put("time", Math.round((number(params.get("timestamp")) - start) * 1000));
+        }
+        return entry;
+    }
+
+    /**
+     * Returns finished requests (oldest first) followed by the ones still pending.
+     */
+    public List<Map<String, Object>> networkEntries() {
+        List<Map<String, Object>> entries = new ArrayList<>(network.snapshot());
+        for (Map<String, Object> pending : inFlight.values()) {
+            Map<String, Object> copy = new LinkedHashMap<>(pending);
+            copy.put("pending", true);
+            entries.add(copy);
+        }
+        return entries;
+    }
+
+    public List<Map<String, Object>> consoleEntries() {
+        return console.snapshot();
+    }
+
+    private static String wallTime(Object epochSeconds) {
+        if (epochSeconds == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(Math.round(number(epochSeconds) * 1000)).toString();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+}
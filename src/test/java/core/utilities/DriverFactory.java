@@ -1,41 +1,93 @@
 package core.utilities;
 
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import core.globals.Rendering;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 
 /**
  * DriverFactory:
- * Provides a singleton WebDriver instance for test execution.
+ * Provides one WebDriver instance per test thread.
  * Ensures browser lifecycle is managed centrally via BaseTest.
  */
 public class DriverFactory {
 
-    // Singleton instance (shared within the test run)
-    private static WebDriver driver;
+    // Browser session of the current thread (tests may run in parallel)
+    private static final ThreadLocal<BrowserSession> session = new ThreadLocal<>();
 
     /**
      * Returns the active WebDriver instance or initializes a new one if none exists.
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
-            // WebDriverManager handles driver binaries for Chrome
-            WebDriverManager.chromedriver().setup();
-            driver = new ChromeDriver();
-            // Standardize initial browser state
-            driver.manage().window().maximize();
+        return getSession().getDriver();
+    }
+
+    /**
+     * Returns the active WebDriver, starting the engine suited to the test's rendering needs:
+     * the in-JVM HtmlUnit driver for DOM-only tests (when inJvmDriverEnabled=true), Chrome otherwise.
+     */
+    public static WebDriver getDriver(Rendering.Mode mode) {
+        return getDriver(mode, false);
+    }
+
+    /**
+     * As getDriver(mode); a shareable test (@SharedBrowser) gets a tab of the shared, signed-in Chrome
+     * when tabSchedulerEnabled=true (the in-JVM driver still wins for DOM-only tests).
+     */
+    public static WebDriver getDriver(Rendering.Mode mode, boolean shareable) {
+        if (session.get() == null) {
+            boolean inJvm = mode == Rendering.Mode.DOM_ONLY
+                    && ConfigurationReader.getBoolean("inJvmDriverEnabled", false);
+            if (inJvm) {
+                session.set(BrowserSession.startInJvm());
+            } else if (TabScheduler.serves(mode, shareable)) {
+                session.set(TabScheduler.openTab());
+            } else {
+                session.set(startChrome());
+            }
+        }
+        return session.get().getDriver();
+    }
+
+    /**
+     * Returns the active browser session (driver + attached diagnostics), starting one if needed.
+     */
+    public static BrowserSession getSession() {
+        if (session.get() == null) {
+            session.set(startChrome());
         }
-        return driver;
+        return session.get();
+    }
+
+    /**
+     * Returns the screencast recorder of the active browser, or null if none is running.
+     */
+    public static ScreencastRecorder getScreencastRecorder() {
+        return session.get() == null ? null : session.get().getScreencast();
     }
 
     /**
-     * Gracefully closes the browser and clears the driver reference.
+     * Closes the browser (or hands it to the background quit) and clears the session reference.
      */
     public static void quitDriver() {
-        if (driver != null) {
-            driver.quit();
-            driver = null;  // allow recreation for next test class
+        if (session.get() != null) {
+            // Pipelined sessions are quit in the background (see BrowserLifecycle)
+            if (!BrowserLifecycle.release(session.get())) {
+                session.get().close();
+            }
+            session.remove();  // allow recreation for next test
+        }
+    }
+
+    /**
+     * A dedicated Chrome: pre-spawned and pipelined when browserPipelineEnabled=true, launched here otherwise;
+     * admitted by the ResourceGovernor either way.
+     */
+    private static BrowserSession startChrome() {
+        if (BrowserLifecycle.isEnabled()) {
+            return BrowserLifecycle.acquire();
         }
+        // Queue until the machine has room for another Chrome (see ResourceGovernor)
+        ResourceGovernor.admit();
+        return BrowserSession.start();
     }
 }
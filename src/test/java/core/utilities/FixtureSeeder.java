@@ -0,0 +1,342 @@
+package core.utilities;
+
+import core.globals.Fixture;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * FixtureSeeder:
+ * Puts the logged-in account into a known wishlist / cart state over plain HTTP
+ * (java.net.http.HttpClient) instead of clicking through the UI.
+ * It shares the browser's session cookies, posts to the storefront's own add endpoints,
+ * and copies any refreshed cookies back, so the browser sees the seeded state immediately.
+ * Cookies keep their domain and path both ways (a domain cookie stays a domain cookie, a host-only one stays
+ * host-only), and seeding is reported successful only when the cart reads back the added quantity.
+ * Enabled with fixtureSeeding=http.
+ */
+public class FixtureSeeder {
+
+    // ===== Storefront markup (Magento 1 / RWD theme) =====
+    private static final Pattern PRODUCT_LINK =
+            Pattern.compile("class=\"product-name\"><a href=\"([^\"]+)\"");
+    private static final Pattern FORM_KEY =
+            Pattern.compile("name=\"form_key\"[^>]*value=\"([^\"]+)\"");
+    private static final Pattern PRODUCT_ID =
+            Pattern.compile("name=\"product\"[^>]*value=\"(\\d+)\"");
+    private static final Pattern ADD_TO_CART_ACTION =
+            Pattern.compile("action=\"([^\"]*/checkout/cart/add/[^\"]*)\"");
+    private static final Pattern CONFIGURABLE_OPTIONS =
+            Pattern.compile("new Product\\.Config\\((\\{.*?\\})\\);", Pattern.DOTALL);
+    private static final Pattern WISHLIST_REMOVE_LINK =
+            Pattern.compile("href=\"([^\"]*/wishlist/index/remove/item/\\d+/[^\"]*)\"");
+    private static final Pattern CART_ITEM_REMOVE_LINK =
+            Pattern.compile("href=\"[^\"]*/checkout/cart/delete/");
+    // Header mini-cart quantity (a.skip-cart span.count)
+    private static final Pattern HEADER_CART_COUNT =
+            Pattern.compile("class=\"skip-link skip-cart[^\"]*\"[\\s\\S]*?<span class=\"count\">(\\d+)</span>");
+
+    // Used when no browser session is shared (sessions opened by signIn)
+    private static final String DEFAULT_USER_AGENT = "Mozilla/5.0 (X11; Linux x86_64) FixtureSeeder";
+
+    private final String baseUrl;
+    private final CookieManager cookies = new CookieManager();
+    private final HttpClient client;
+    private final String userAgent;
+
+    private FixtureSeeder(String baseUrl, String userAgent) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.userAgent = userAgent;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(ConfigurationReader.getInt("timeoutSeconds")))
+                .build();
+    }
+
+    public static boolean isEnabled() {
+        return "http".equalsIgnoreCase(ConfigurationReader.get("fixtureSeeding"));
+    }
+
+    /**
+     * Creates a seeder that acts in the same session as the given (logged-in) browser.
+     */
+    public static FixtureSeeder fromBrowser(WebDriver driver) {
+        String userAgent = (String) ((JavascriptExecutor) driver).executeScript("return navigator.userAgent;");
+        FixtureSeeder seeder = new FixtureSeeder(ConfigurationReader.get("url"), userAgent);
+
+        URI base = URI.create(seeder.baseUrl);
+        for (Cookie cookie : driver.manage().getCookies()) {
+            HttpCookie httpCookie = new HttpCookie(cookie.getName(), cookie.getValue());
+            httpCookie.setPath(cookie.getPath() == null ? "/" : cookie.getPath());
+            // WebDriver reports domain cookies with a leading dot; host-only ones without
+            if (cookie.getDomain() != null && cookie.getDomain().startsWith(".")) {
+                httpCookie.setDomain(cookie.getDomain());
+            }
+            httpCookie.setSecure(cookie.isSecure());
+            httpCookie.setVersion(0);
+            seeder.cookies.getCookieStore().add(base, httpCookie);
+        }
+        return seeder;
+    }
+
+    /**
+     * Creates a seeder with its own storefront session, signed in with the given account
+     * (no browser needed, e.g. to reset a pooled account before a test uses it).
+     */
+    public static FixtureSeeder signIn(String email, String password) {
+        FixtureSeeder seeder = new FixtureSeeder(ConfigurationReader.get("url"), DEFAULT_USER_AGENT);
+
+        String loginPage = seeder.get(seeder.baseUrl + "customer/account/login/");
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("form_key", find(FORM_KEY, loginPage, "form_key"));
+        form.put("login[username]", email);
+        form.put("login[password]", password);
+        seeder.post(seeder.baseUrl + "customer/account/loginPost/", form);
+
+        // A failed login redirects back to the login form instead of the account dashboard
+        HttpResponse<String> account = seeder.send(
+                HttpRequest.newBuilder(URI.create(seeder.baseUrl + "customer/account/")).GET());
+        if (account.statusCode() != 200 || !account.body().contains("customer/account/logout")) {
+            throw new IllegalStateException("Identifikimi HTTP dështoi për " + email);
+        }
+        return seeder;
+    }
+
+    // ================== CATALOG ==================
+
+    /**
+     * Returns the first product page URLs listed on a category page, e.g. "women.html?dir=asc&order=price".
+     */
+    public List<String> findProductUrls(String categoryPath, int howMany) {
+        Matcher m = PRODUCT_LINK.matcher(get(baseUrl + categoryPath));
+        Set<String> urls = new LinkedHashSet<>();
+        while (m.find() && urls.size() < howMany) {
+            urls.add(m.group(1));
+        }
+        if (urls.size() < howMany) {
+            throw new IllegalStateException("U gjetën vetëm " + urls.size() + " produkte në " + categoryPath);
+        }
+        return new ArrayList<>(urls);
+    }
+
+    // ================== SEEDING ==================
+
+    /**
+     * Adds the product to the cart with the given quantity
+     * (first valid option combination for configurable products).
+     */
+    public void addToCart(String productUrl, int qty) {
+        int before = cartCount();
+        String page = get(productUrl);
+        Map<String, String> form = productForm(page);
+        form.put("qty", String.valueOf(qty));
+        post(find(ADD_TO_CART_ACTION, page, "add-to-cart form").replace("&amp;", "&"), form);
+        StateSnapshots.invalidate(Fixture.NON_EMPTY_CART);
+
+        // A rejected add also answers with a redirect (back to the product page with an error message)
+        int after = cartCount();
+        if (after < before + qty) {
+            throw new IllegalStateException("Produkti nuk u shtua në cart: " + productUrl
+                    + " (sasia në cart " + before + " -> " + after + ")");
+        }
+    }
+
+    private int cartCount() {
+        Matcher m = HEADER_CART_COUNT.matcher(get(baseUrl + "checkout/cart/"));
+        return m.find() ? Integer.parseInt(m.group(1)) : 0;
+    }
+
+    // ================== CLEANUP ==================
+
+    /**
+     * Removes every item from the wishlist of the signed-in account.
+     */
+    public void clearWishlist() {
+        String page = get(baseUrl + "wishlist/");
+        Matcher m = WISHLIST_REMOVE_LINK.matcher(page);
+        List<String> removeUrls = new ArrayList<>();
+        while (m.find()) {
+            removeUrls.add(m.group(1).replace("&amp;", "&"));
+        }
+        if (removeUrls.isEmpty()) {
+            return;
+        }
+
+        String formKey = find(FORM_KEY, page, "form_key");
+        for (String url : removeUrls) {
+            post(url, Map.of("form_key", formKey));
+        }
+        if (WISHLIST_REMOVE_LINK.matcher(get(baseUrl + "wishlist/")).find()) {
+            throw new IllegalStateException("Wishlist-i nuk u boshatis.");
+        }
+        StateSnapshots.invalidate(Fixture.NON_EMPTY_WISHLIST);
+    }
+
+    /**
+     * Empties the shopping cart of the signed-in account (the cart page's own "empty cart" action).
+     */
+    public void clearCart() {
+        String page = get(baseUrl + "checkout/cart/");
+        if (!CART_ITEM_REMOVE_LINK.matcher(page).find()) {
+            return;
+        }
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("form_key", find(FORM_KEY, page, "form_key"));
+        form.put("update_cart_action", "empty_cart");
+        post(baseUrl + "checkout/cart/updatePost/", form);
+        if (CART_ITEM_REMOVE_LINK.matcher(get(baseUrl + "checkout/cart/")).find()) {
+            throw new IllegalStateException("Cart-i nuk u boshatis.");
+        }
+        StateSnapshots.invalidate(Fixture.NON_EMPTY_CART);
+    }
+
+    /**
+     * Copies cookies set or refreshed during seeding back into the browser. A cookie the browser already has
+     * is replaced in place (same domain, path and expiry), so no host-only duplicate of a domain cookie appears.
+     */
+    public void syncCookiesTo(WebDriver driver) {
+        for (HttpCookie httpCookie : cookies.getCookieStore().getCookies()) {
+            Cookie current = driver.manage().getCookieNamed(httpCookie.getName());
+            if (current != null && current.getValue().equals(httpCookie.getValue())) {
+                continue;
+            }
+
+            String domain = current != null ? current.getDomain() : httpCookie.getDomain();
+            String path = current != null ? current.getPath() : httpCookie.getPath();
+            Cookie.Builder cookie = new Cookie.Builder(httpCookie.getName(), httpCookie.getValue())
+                    .path(path == null ? "/" : path)
+                    .isSecure(current != null ? current.isSecure() : httpCookie.getSecure())
+                    .isHttpOnly(current != null ? current.isHttpOnly() : httpCookie.isHttpOnly());
+            // Only a dotted domain makes a domain cookie; anything else stays host-only, like the original
+            if (domain != null && domain.startsWith(".")) {
+                cookie.domain(domain);
+            }
+            if (current != null && current.getExpiry() != null) {
+                cookie.expiresOn(current.getExpiry());
+            } else if (current == null && httpCookie.getMaxAge() > 0) {
+                cookie.expiresOn(new Date(System.currentTimeMillis() + httpCookie.getMaxAge() * 1000));
+            }
+            driver.manage().addCookie(cookie.build());
+        }
+    }
+
+    // ================== PRODUCT FORM ==================
+
+    private Map<String, String> productForm(String page) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("product", find(PRODUCT_ID, page, "product id"));
+        form.put("form_key", find(FORM_KEY, page, "form_key"));
+
+        Matcher config = CONFIGURABLE_OPTIONS.matcher(page);
+        if (config.find()) {
+            selectFirstValidOptions(config.group(1), form);
+        }
+        return form;
+    }
+
+    /**
+     * Picks, attribute by attribute, the first option still compatible with the previous choices
+     * (same rule as the UI flow: first color, then first size that exists for it).
+     */
+    @SuppressWarnings("unchecked")
+    private void selectFirstValidOptions(String spConfigJson, Map<String, String> form) {
+        Map<String, Object> spConfig = new Json().toType(spConfigJson, Json.MAP_TYPE);
+        Map<String, Object> attributes = (Map<String, Object>) spConfig.get("attributes");
+
+        Set<Object> candidates = null;
+        for (Object value : attributes.values()) {
+            Map<String, Object> attribute = (Map<String, Object>) value;
+            for (Object o : (List<Object>) attribute.get("options")) {
+                Map<String, Object> option = (Map<String, Object>) o;
+                Set<Object> products = new HashSet<>((List<Object>) option.get("products"));
+                if (candidates != null) {
+                    products.retainAll(candidates);
+                }
+                if (!products.isEmpty()) {
+                    form.put("super_attribute[" + attribute.get("id") + "]", String.valueOf(option.get("id")));
+                    candidates = products;
+                    break;
+                }
+            }
+        }
+    }
+
+    // ================== HTTP ==================
+
+    private String get(String url) {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(url)).GET());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " -> HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private void post(String url, Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        form.forEach((k, v) -> body.add(URLEncoder.encode(k, StandardCharsets.UTF_8)
+                + "=" + URLEncoder.encode(v, StandardCharsets.UTF_8)));
+
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+
+        // The storefront answers actions with a redirect (cart / referer); the caller verifies the effect
+        if (response.statusCode() != 302 && response.statusCode() != 200) {
+            throw new IllegalStateException("POST " + url + " -> HTTP " + response.statusCode());
+        }
+        // ...except a redirect to the login form: the session is not (or no longer) signed in
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() == 302 && location.contains("customer/account/login")
+                && !url.contains("customer/account/loginPost")) {
+            throw new IllegalStateException("POST " + url + " u ridrejtua te login: sesioni nuk është i identifikuar");
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) {
+        try {
+            return client.send(request
+                            .header("User-Agent", userAgent)
+                            .timeout(Duration.ofSeconds(ConfigurationReader.getInt("timeoutSeconds")))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Kërkesa HTTP dështoi: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String find(Pattern pattern, String page, String what) {
+        Matcher m = pattern.matcher(page);
+        if (!m.find()) {
+            throw new IllegalStateException("Nuk u gjet " + what + " në faqe.");
+        }
+        return m.group(1);
+    }
+}
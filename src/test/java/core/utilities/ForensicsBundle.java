@@ -0,0 +1,142 @@
+package core.utilities;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * ForensicsBundle:
+ * Streams a single zip with everything needed to debug a failed test:
+ * DOM, console, HAR-like network log, cookies, current URL, last page-object steps and the failure.
+ * Each entry is written straight into the compressed stream, nothing is assembled in memory first.
+ */
+public class ForensicsBundle {
+
+    // The DOM is pulled from the browser in slices of this many characters
+    private static final int DOM_CHUNK = 256 * 1024;
+
+    private static final Json JSON = new Json();
+
+    /**
+     * Writes the bundle for the given session. Each part is best-effort: a dead browser
+     * must not prevent the remaining parts from being saved.
+     */
+    public static void write(Path target, BrowserSession session, Throwable failure) throws IOException {
+        WebDriver driver = session.getDriver();
+        Files.createDirectories(target.getParent());
+
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             ZipOutputStream zip = new ZipOutputStream(Channels.newOutputStream(channel), StandardCharsets.UTF_8)) {
+
+            Writer out = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+
+            entry(zip, out, "url.txt", w -> w.write(String.valueOf(driver.getCurrentUrl())));
+
+            entry(zip, out, "failure.txt", w -> {
+                if (failure != null) {
+                    failure.printStackTrace(new PrintWriter(w));
+                }
+            });
+
+            entry(zip, out, "steps.txt", w -> {
+                if (session.getSteps() != null) {
+                    for (String step : session.getSteps().snapshot()) {
+                        w.write(step);
+                        w.write('\n');
+                    }
+                }
+            });
+
+            entry(zip, out, "cookies.json", w -> {
+                List<Map<String, Object>> cookies = new ArrayList<>();
+                for (Cookie cookie : driver.manage().getCookies()) {
+                    Map<String, Object> c = new LinkedHashMap<>();
+                    c.put("name", cookie.getName());
+                    c.put("value", cookie.getValue());
+                    c.put("domain", cookie.getDomain());
+                    c.put("path", cookie.getPath());
+                    c.put("expiry", cookie.getExpiry() == null ? null : cookie.getExpiry().toInstant().toString());
+                    c.put("secure", cookie.isSecure());
+                    c.put("httpOnly", cookie.isHttpOnly());
+                    cookies.add(c);
+                }
+                json(w, cookies);
+            });
+
+            DevToolsLog devToolsLog = session.getDevToolsLog();
+            if (devToolsLog != null) {
+                entry(zip, out, "console.json", w -> json(w, devToolsLog.consoleEntries()));
+                entry(zip, out, "network.har.json", w -> json(w,
+                        Map.of("log", Map.of(
+                                "version", "1.2",
+                                "creator", Map.of("name", "ForensicsBundle", "version", "1.0"),
+                                "entries", devToolsLog.networkEntries()))));
+            }
+
+            entry(zip, out, "page.html", w -> writeDom(driver, w));
+        }
+    }
+
+    /**
+     * Copies the serialized DOM slice by slice, so only one chunk is held in the JVM at a time.
+     * Falls back to getPageSource() if the page does not allow script execution.
+     */
+    private static void writeDom(WebDriver driver, Writer w) throws IOException {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        try {
+            long length = ((Number) js.executeScript(
+                    "window.__forensicsDom = document.documentElement.outerHTML;"
+                            + "return window.__forensicsDom.length;")).longValue();
+            for (long from = 0; from < length; from += DOM_CHUNK) {
+                w.write((String) js.executeScript(
+                        "return window.__forensicsDom.substring(arguments[0], arguments[1]);",
+                        from, Math.min(length, from + DOM_CHUNK)));
+            }
+            js.executeScript("delete window.__forensicsDom;");
+        } catch (RuntimeException e) {
+            w.write(driver.getPageSource());
+        }
+    }
+
+    private interface Part {
+        void writeTo(Writer w) throws IOException;
+    }
+
+    private static void entry(ZipOutputStream zip, Writer out, String name, Part part) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        try {
+            part.writeTo(out);
+        } catch (RuntimeException e) {
+            out.write("\n[" + name + " could not be collected: " + e + "]\n");
+        }
+        out.flush();
+        zip.closeEntry();
+    }
+
+    private static void json(Writer w, Object value) {
+        // JsonOutput.close() would close the zip stream, so it is only flushed via the writer
+        JsonOutput output = JSON.newOutput(w);
+        output.setPrettyPrint(true);
+        output.write(value);
+    }
+}
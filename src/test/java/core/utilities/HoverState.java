@@ -0,0 +1,158 @@
+package core.utilities;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.interactions.Actions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HoverState:
+ * Checks what a :hover reveals without moving the mouse. With hoverMode=cdp (default) every matching node gets
+ * DevTools CSS.forcePseudoState(:hover), so the check is deterministic, needs no pointer and is cheap enough
+ * to run on every product card. hoverMode=pointer (or a browser without CDP) uses real Actions.moveToElement
+ * per node instead.
+ * Either way "visible" is judged in the page once running transitions / animations around the child have
+ * finished (so it does not depend on MotionSuppression): non-zero size, not placed outside the document,
+ * and no hidden / transparent / display:none ancestor (Element.checkVisibility where available).
+ */
+public class HoverState {
+
+    // Longest wait for the transitions started by (un)hovering to finish
+    private static final int SETTLE_TIMEOUT_MS = 2000;
+
+    // Called with the child as "this": waits a frame and for finite animations on the child, its ancestors
+    // or descendants, then checks size, placement and effective visibility
+    private static final String SETTLED_VISIBLE =
+            "function (timeoutMs) {"
+                    + "  var el = this;"
+                    + "  function later(ms) { return new Promise(function (r) { setTimeout(r, ms); }); }"
+                    // rAF does not fire in background tabs, hence the short timer next to it
+                    + "  var frame = Promise.race([new Promise(function (r) { requestAnimationFrame(r); }), later(50)]);"
+                    + "  return frame.then(function () {"
+                    + "    var running = document.getAnimations().filter(function (a) {"
+                    + "      var t = a.effect && a.effect.target;"
+                    + "      return a.playState === 'running' && t && (t.contains(el) || el.contains(t))"
+                    + "          && a.effect.getComputedTiming().endTime !== Infinity;"
+                    + "    });"
+                    + "    return Promise.race([Promise.all(running.map(function (a) {"
+                    + "      return a.finished.catch(function () {});"
+                    + "    })), later(timeoutMs)]);"
+                    + "  }).then(function () {"
+                    + "    var r = el.getBoundingClientRect();"
+                    + "    if (r.width === 0 || r.height === 0) return false;"
+                    + "    if (r.right + window.scrollX <= 0 || r.bottom + window.scrollY <= 0) return false;"
+                    + "    if (el.checkVisibility) {"
+                    + "      return el.checkVisibility({opacityProperty: true, visibilityProperty: true,"
+                    + "                                 checkOpacity: true, checkVisibilityCSS: true});"
+                    + "    }"
+                    + "    for (var n = el; n && n.nodeType === 1; n = n.parentElement) {"
+                    + "      var s = getComputedStyle(n);"
+                    + "      if (s.display === 'none' || s.visibility === 'hidden' || parseFloat(s.opacity) === 0) return false;"
+                    + "    }"
+                    + "    return true;"
+                    + "  });"
+                    + "}";
+
+    /**
+     * Visibility of the revealed child of one node, before and while hovered.
+     */
+    public record Result(int index, boolean visibleBefore, boolean visibleWhileHovered) {
+    }
+
+    /**
+     * For every node matching itemCss, whether its childCss element is visible before and while hovered.
+     */
+    public static List<Result> reveals(WebDriver driver, String itemCss, String childCss) {
+        Optional<DevTools> session = "pointer".equalsIgnoreCase(ConfigurationReader.get("hoverMode"))
+                ? Optional.empty()
+                : CdpUtils.session(driver);
+        return session.isPresent()
+                ? revealsWithForcedState(session.get(), itemCss, childCss)
+                : revealsWithPointer(driver, itemCss, childCss);
+    }
+
+    // ================== CDP ==================
+
+    @SuppressWarnings("unchecked")
+    private static List<Result> revealsWithForcedState(DevTools devTools, String itemCss, String childCss) {
+        CdpUtils.send(devTools, "DOM.enable", Map.of());
+        CdpUtils.send(devTools, "CSS.enable", Map.of());
+
+        Map<String, Object> root = (Map<String, Object>) CdpUtils.send(devTools, "DOM.getDocument",
+                Map.of("depth", 0)).get("root");
+        List<Object> items = (List<Object>) CdpUtils.send(devTools, "DOM.querySelectorAll",
+                Map.of("nodeId", root.get("nodeId"), "selector", itemCss)).get("nodeIds");
+
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            Number child = (Number) CdpUtils.send(devTools, "DOM.querySelector",
+                    Map.of("nodeId", item, "selector", childCss)).get("nodeId");
+            if (child == null || child.intValue() == 0) {
+                results.add(new Result(i, false, false));
+                continue;
+            }
+
+            boolean before = isVisible(devTools, child);
+            CdpUtils.send(devTools, "CSS.forcePseudoState",
+                    Map.of("nodeId", item, "forcedPseudoClasses", List.of("hover")));
+            try {
+                results.add(new Result(i, before, isVisible(devTools, child)));
+            } finally {
+                CdpUtils.send(devTools, "CSS.forcePseudoState",
+                        Map.of("nodeId", item, "forcedPseudoClasses", List.of()));
+            }
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isVisible(DevTools devTools, Number nodeId) {
+        Map<String, Object> object = (Map<String, Object>) CdpUtils.send(devTools, "DOM.resolveNode",
+                Map.of("nodeId", nodeId)).get("object");
+        Map<String, Object> result = (Map<String, Object>) CdpUtils.send(devTools, "Runtime.callFunctionOn", Map.of(
+                "objectId", object.get("objectId"),
+                "functionDeclaration", SETTLED_VISIBLE,
+                "arguments", List.of(Map.of("value", SETTLE_TIMEOUT_MS)),
+                "awaitPromise", true,
+                "returnByValue", true
+        )).get("result");
+        return Boolean.TRUE.equals(result.get("value"));
+    }
+
+    // ================== POINTER ==================
+
+    private static List<Result> revealsWithPointer(WebDriver driver, String itemCss, String childCss) {
+        Actions actions = new Actions(driver);
+
+        List<WebElement> items = driver.findElements(By.cssSelector(itemCss));
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            List<WebElement> children = items.get(i).findElements(By.cssSelector(childCss));
+            if (children.isEmpty()) {
+                results.add(new Result(i, false, false));
+                continue;
+            }
+            WebElement child = children.get(0);
+            boolean before = isVisible(driver, child);
+            actions.moveToElement(items.get(i)).perform();
+            results.add(new Result(i, before, isVisible(driver, child)));
+        }
+        return results;
+    }
+
+    private static boolean isVisible(WebDriver driver, WebElement element) {
+        Object visible = ((JavascriptExecutor) driver).executeAsyncScript(
+                "var done = arguments[arguments.length - 1];"
+                        + "(" + SETTLED_VISIBLE + ").call(arguments[0], arguments[1]).then(done);",
+                element, SETTLE_TIMEOUT_MS);
+        return Boolean.TRUE.equals(visible);
+    }
+}
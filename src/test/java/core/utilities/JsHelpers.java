@@ -0,0 +1,126 @@
+package core.utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JsHelpers:
+ * Java side of the window.__qa helper bundle (src/test/resources/js/qa-helpers.js).
+ * The bundle is registered once per browser via CDP Page.addScriptToEvaluateOnNewDocument, so it is already
+ * present in every document; calls only send "__qa.fn(args)". Browsers without CDP (and documents loaded
+ * before registration) get the bundle injected on the first call that finds it missing or outdated.
+ */
+public class JsHelpers {
+
+    // Bump together with any change to qa-helpers.js
+    public static final String VERSION = "2";
+
+    private static final String BUNDLE = load("/js/qa-helpers.js").replace("__QA_VERSION__", VERSION);
+
+    // Returned by the call stub when the document has no (or an older) __qa
+    private static final String MISSING = "__qa_missing__";
+
+    private static final String CALL =
+            "var q=window.__qa;if(!q||q.version!==arguments[0])return '" + MISSING + "';"
+                    + "return q[arguments[1]].apply(null,Array.prototype.slice.call(arguments,2));";
+
+    // Identifier of the registered bundle per test thread
+    private static final ThreadLocal<String> identifier = new ThreadLocal<>();
+
+    /**
+     * Registers the bundle for all documents loaded from now on. No-op without CDP (lazy injection covers it).
+     */
+    public static void install(WebDriver driver) {
+        if (identifier.get() != null) {
+            return;
+        }
+        Optional<DevTools> session = CdpUtils.session(driver);
+        if (session.isEmpty()) {
+            return;
+        }
+        Map<String, Object> result = CdpUtils.send(session.get(), "Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", BUNDLE));
+        identifier.set((String) result.get("identifier"));
+    }
+
+    /**
+     * Forgets the registration of the current thread; the script itself dies with the browser.
+     */
+    public static void reset() {
+        identifier.remove();
+    }
+
+    /**
+     * Invokes window.__qa[function](args...) and returns its result.
+     */
+    public static Object call(WebDriver driver, String function, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object[] callArgs = prepend(function, args);
+        Object result = js.executeScript(CALL, callArgs);
+        if (MISSING.equals(result)) {
+            js.executeScript(BUNDLE);
+            result = js.executeScript(CALL, callArgs);
+        }
+        return result;
+    }
+
+    // ================== TYPED SHORTCUTS ==================
+
+    public static void scrollIntoView(WebDriver driver, WebElement element) {
+        call(driver, "scrollIntoView", element);
+    }
+
+    public static void click(WebDriver driver, WebElement element) {
+        call(driver, "click", element);
+    }
+
+    public static void scrollAndClick(WebDriver driver, WebElement element) {
+        call(driver, "scrollAndClick", element);
+    }
+
+    /**
+     * Text of the first childCss match inside each element, in one round trip ("" where absent).
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> texts(WebDriver driver, List<WebElement> elements, String childCss) {
+        return new ArrayList<>((List<String>) call(driver, "texts", elements, childCss));
+    }
+
+    /**
+     * Cart rows (name, qty, subtotal) and "grandTotal" as text; null when the page has no cart table.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> cartSnapshot(WebDriver driver) {
+        return (Map<String, Object>) call(driver, "cart");
+    }
+
+    private static Object[] prepend(String function, Object[] args) {
+        Object[] all = new Object[args.length + 2];
+        all[0] = VERSION;
+        all[1] = function;
+        System.arraycopy(args, 0, all, 2, args.length);
+        return all;
+    }
+
+    private static String load(String resource) {
+        try (InputStream in = JsHelpers.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Mungon resursi " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package core.utilities;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorProfile:
+ * Cost of every locator lookup per call site (collected by LocatorProfilerListener when locatorProfilerEnabled=true):
+ * calls, total / max time and matched nodes. The ranking is written to the run report with a faster
+ * scoped-CSS suggestion where one can be derived from the locator.
+ */
+public class LocatorProfile {
+
+    private static final Map<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    public static final class Stat {
+        final String site;
+        final By locator;
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder matched = new LongAdder();
+
+        Stat(String site, By locator) {
+            this.site = site;
+            this.locator = locator;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("locatorProfilerEnabled", false);
+    }
+
+    public static void record(String site, By locator, long nanos, int matchedNodes) {
+        Stat stat = STATS.computeIfAbsent(site + "|" + locator, k -> new Stat(site, locator));
+        stat.calls.increment();
+        stat.totalNanos.add(nanos);
+        stat.maxNanos.accumulate(nanos);
+        stat.matched.add(matchedNodes);
+    }
+
+    /**
+     * Report lines, most expensive (total time) first.
+     */
+    public static List<String> report(int top) {
+        List<Stat> ranked = new ArrayList<>(STATS.values());
+        ranked.sort(Comparator.comparingLong((Stat s) -> s.totalNanos.sum()).reversed());
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%10s %6s %8s %8s  %-45s %s", "total ms", "calls", "max ms", "avg hit", "site", "locator"));
+        for (Stat s : ranked.subList(0, Math.min(top, ranked.size()))) {
+            long calls = s.calls.sum();
+            lines.add(String.format("%10d %6d %8d %8.1f  %-45s %s",
+                    s.totalNanos.sum() / 1_000_000, calls, s.maxNanos.get() / 1_000_000,
+                    calls == 0 ? 0.0 : (double) s.matched.sum() / calls, s.site, s.locator));
+            String suggestion = suggest(s.locator);
+            if (suggestion != null) {
+                lines.add(String.format("%10s %6s %8s %8s  -> %s", "", "", "", "", suggestion));
+            }
+        }
+        return lines;
+    }
+
+    // ================== SUGGESTIONS ==================
+
+    private static final Pattern XPATH_ID = Pattern.compile("^//(\\w+|\\*)\\[@id=['\"]([^'\"]+)['\"]\\]$");
+    // Class token test, the only XPath class form equivalent to CSS x.a
+    private static final Pattern XPATH_CLASS_TOKEN = Pattern.compile(
+            "^//(\\w+|\\*)\\[contains\\(concat\\(' ',\\s*normalize-space\\(@class\\),\\s*' '\\),\\s*' ([\\w-]+) '\\)\\]$");
+    // Whole attribute (@class='a') or substring (contains(@class,'a')): x.a would match differently
+    private static final Pattern XPATH_CLASS = Pattern.compile(
+            "^//(\\w+|\\*)\\[(@class=|contains\\(@class,\\s*)['\"]([\\w -]+)['\"]\\)?\\]$");
+    private static final Pattern XPATH_TEXT_OR_TITLE = Pattern.compile(
+            "^//(\\w+)\\[contains\\(normalize-space\\(\\.\\),\\s*'([^']+)'\\).*contains\\(@title,\\s*'([^']+)'\\)\\]");
+
+    /**
+     * A faster equivalent or scoped alternative for slow locator kinds, or null if the locator is already cheap.
+     */
+    static String suggest(By locator) {
+        String text = locator.toString();
+        int colon = text.indexOf(": ");
+        String kind = colon < 0 ? text : text.substring(0, colon);
+        String value = colon < 0 ? "" : text.substring(colon + 2).trim();
+
+        switch (kind) {
+            case "By.linkText":
+                return "CSS a[title='" + value + "'] scoped to its menu (link text scans every anchor; "
+                        + "title is not the link text - not equivalent, verify)";
+            case "By.partialLinkText":
+                return "CSS a[title*='" + value + "'] scoped to its menu, e.g. #header-account a[title*='" + value + "'] "
+                        + "(title is not the link text - not equivalent, verify)";
+            case "By.xpath":
+                return suggestForXpath(value);
+            default:
+                return null;
+        }
+    }
+
+    private static String suggestForXpath(String xpath) {
+        Matcher m = XPATH_ID.matcher(xpath);
+        if (m.find()) {
+            return "CSS " + ("*".equals(m.group(1)) ? "" : m.group(1)) + "#" + m.group(2);
+        }
+        m = XPATH_CLASS_TOKEN.matcher(xpath);
+        if (m.find()) {
+            return "CSS " + ("*".equals(m.group(1)) ? "" : m.group(1)) + "." + m.group(2);
+        }
+        m = XPATH_CLASS.matcher(xpath);
+        if (m.find()) {
+            String tag = "*".equals(m.group(1)) ? "" : m.group(1);
+            boolean exact = m.group(2).startsWith("@class");
+            // [class='a'] / [class*='a'] match exactly what the XPath matches; .a tests whole class tokens
+            return "CSS " + tag + "[class" + (exact ? "=" : "*=") + "'" + m.group(3) + "'] (same match); "
+                    + tag + "." + m.group(3).trim().replace(' ', '.') + " is faster but not equivalent, verify";
+        }
+        m = XPATH_TEXT_OR_TITLE.matcher(xpath);
+        if (m.find()) {
+            return "CSS " + m.group(1) + "[title*='" + m.group(3) + "'] inside its form/container "
+                    + "(text matching needs XPath; the title attribute does not)";
+        }
+        if (xpath.contains("ancestor::")) {
+            return "select the clickable element directly with CSS instead of text node + ancestor:: walk";
+        }
+        if (xpath.startsWith("//")) {
+            return "scope the XPath to a container (e.g. .//... from the form element) instead of a document-wide //";
+        }
+        return null;
+    }
+}
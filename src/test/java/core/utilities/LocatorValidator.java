@@ -0,0 +1,204 @@
+package core.utilities;
+
+import core.elements.HomePageElements;
+import core.elements.LoginPageElements;
+import core.elements.Matches;
+import core.elements.MenPageElements;
+import core.elements.RegisterPageElements;
+import core.elements.SalePageElements;
+import core.elements.ShoppingCartElements;
+import core.elements.WishlistPageElements;
+import core.elements.WomenPageElements;
+import org.htmlunit.BrowserVersion;
+import org.htmlunit.WebClient;
+import org.htmlunit.WebRequest;
+import org.htmlunit.WebResponse;
+import org.htmlunit.util.FalsifyingWebConnection;
+import org.openqa.selenium.By;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * LocatorValidator:
+ * Evaluates every By constant of the core.elements classes against the stored page snapshots
+ * (PageSnapshots) in an offline HtmlUnit driver — no JavaScript, no CSS, no network —
+ * and reports locators that are missing (no match in any state of their page),
+ * ambiguous (more than one match where @Matches expects ONE) or slow to evaluate.
+ * Only the states a locator applies to (@Matches.states, default all) are checked for it.
+ */
+public class LocatorValidator {
+
+    public static final List<Class<?>> ELEMENT_CLASSES = List.of(
+            HomePageElements.class, WomenPageElements.class, MenPageElements.class, SalePageElements.class,
+            WishlistPageElements.class, ShoppingCartElements.class, LoginPageElements.class, RegisterPageElements.class
+    );
+
+    /**
+     * Findings of one validation run; lines are ready to print.
+     */
+    public static final class Report {
+        public final List<String> missing = new ArrayList<>();
+        public final List<String> ambiguous = new ArrayList<>();
+        public final List<String> slow = new ArrayList<>();
+        public final List<String> noSnapshots = new ArrayList<>();
+        public int checked;
+
+        /**
+         * True when no locator class had snapshots, i.e. nothing was validated at all.
+         */
+        public boolean isEmpty() {
+            return checked == 0;
+        }
+
+        public boolean hasBrokenLocators() {
+            return !missing.isEmpty() || !ambiguous.isEmpty();
+        }
+    }
+
+    public static Report validate() {
+        Report report = new Report();
+        long slowMs = ConfigurationReader.getInt("locatorSlowMs", 50);
+
+        HtmlUnitDriver driver = offlineDriver();
+        try {
+            for (Class<?> elements : ELEMENT_CLASSES) {
+                List<Path> states = snapshotsOf(elements);
+                if (states.isEmpty()) {
+                    report.noSnapshots.add(elements.getSimpleName());
+                    continue;
+                }
+
+                List<Field> locators = locatorsOf(elements);
+                int[] maxMatches = new int[locators.size()];
+                long[] maxMillis = new long[locators.size()];
+                String[] ambiguousIn = new String[locators.size()];
+                int[] statesChecked = new int[locators.size()];
+
+                for (Path state : states) {
+                    driver.get(state.toUri().toString());
+                    for (int i = 0; i < locators.size(); i++) {
+                        if (!appliesTo(locators.get(i), state)) {
+                            continue;
+                        }
+                        statesChecked[i]++;
+                        By by = (By) locators.get(i).get(null);
+                        int matches = 0;
+                        long best = Long.MAX_VALUE;
+                        // Best of a few evaluations, so one-off warm-up cost is not reported as slow
+                        for (int run = 0; run < 3; run++) {
+                            long start = System.nanoTime();
+                            matches = driver.findElements(by).size();
+                            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+                        }
+                        maxMillis[i] = Math.max(maxMillis[i], best);
+                        maxMatches[i] = Math.max(maxMatches[i], matches);
+                        if (matches > 1 && ambiguousIn[i] == null) {
+                            ambiguousIn[i] = state.getFileName() + " (" + matches + ")";
+                        }
+                    }
+                }
+
+                for (int i = 0; i < locators.size(); i++) {
+                    Field field = locators.get(i);
+                    if (statesChecked[i] == 0) {
+                        continue; // none of its states has a snapshot yet
+                    }
+                    Matches.Count expected = field.isAnnotationPresent(Matches.class)
+                            ? field.getAnnotation(Matches.class).value() : Matches.Count.ONE;
+                    String name = elements.getSimpleName() + "." + field.getName() + "  " + field.get(null);
+
+                    if (maxMatches[i] == 0 && expected != Matches.Count.OPTIONAL) {
+                        report.missing.add(name);
+                    } else if (expected == Matches.Count.ONE && ambiguousIn[i] != null) {
+                        report.ambiguous.add(name + "  -> " + ambiguousIn[i]);
+                    }
+                    if (maxMillis[i] > slowMs) {
+                        report.slow.add(name + "  " + maxMillis[i] + " ms");
+                    }
+                    report.checked++;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            driver.quit();
+        }
+        return report;
+    }
+
+    public static void print(Report report) {
+        Log.info("Locator validation: " + report.checked + " locators, "
+                + report.missing.size() + " missing, " + report.ambiguous.size() + " ambiguous, "
+                + report.slow.size() + " slow");
+        report.missing.forEach(l -> Log.warn("  MISSING   " + l));
+        report.ambiguous.forEach(l -> Log.warn("  AMBIGUOUS " + l));
+        report.slow.forEach(l -> Log.warn("  SLOW      " + l));
+        report.noSnapshots.forEach(c -> Log.info("  (pa snapshot: " + c + ")"));
+    }
+
+    // ================== HELPERS ==================
+
+    private static boolean appliesTo(Field locator, Path state) {
+        Matches matches = locator.getAnnotation(Matches.class);
+        if (matches == null || matches.states().length == 0) {
+            return true;
+        }
+        String name = state.getFileName().toString().replaceFirst("\\.html$", "");
+        return List.of(matches.states()).contains(name);
+    }
+
+    private static List<Field> locatorsOf(Class<?> elements) {
+        List<Field> locators = new ArrayList<>();
+        for (Field field : elements.getDeclaredFields()) {
+            int mod = field.getModifiers();
+            if (Modifier.isPublic(mod) && Modifier.isStatic(mod) && field.getType() == By.class) {
+                locators.add(field);
+            }
+        }
+        return locators;
+    }
+
+    private static List<Path> snapshotsOf(Class<?> elements) {
+        Path dir = PageSnapshots.dir().resolve(elements.getSimpleName());
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".html")).sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Snapshots nuk u lexuan: " + dir, e);
+        }
+    }
+
+    /**
+     * HtmlUnit with scripts and CSS off; anything but the local snapshot file is answered with an empty body,
+     * so no stylesheet, frame or image request leaves the machine.
+     */
+    private static HtmlUnitDriver offlineDriver() {
+        return new HtmlUnitDriver(BrowserVersion.CHROME, false) {
+            @Override
+            protected WebClient modifyWebClient(WebClient client) {
+                client.getOptions().setCssEnabled(false);
+                client.getOptions().setDownloadImages(false);
+                new FalsifyingWebConnection(client) {
+                    @Override
+                    public WebResponse getResponse(WebRequest request) throws IOException {
+                        if ("file".equals(request.getUrl().getProtocol())) {
+                            return super.getResponse(request);
+                        }
+                        return createWebResponse(request, "", "text/plain");
+                    }
+                };
+                return client;
+            }
+        };
+    }
+}
@@ -0,0 +1,262 @@
+package core.utilities;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Log:
+ * Structured, asynchronous diagnostics for page objects, utilities and listeners (instead of System.out).
+ * A call below logLevel returns after one comparison (the Supplier overloads do not even build the message).
+ * Enabled entries go into a lock-free ring buffer (logBufferSize slots; writers claim a slot with one CAS and
+ * never wait, a full buffer drops and counts) and a single background appender writes them in batches,
+ * so parallel test threads never contend on the synchronized System.out.
+ * Every entry carries the correlation id of the test running on its thread (set by BaseTest via begin()).
+ * Console lines are human-readable; with logFile set, entries are also appended there as JSON lines.
+ */
+public class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private record Entry(long seq, long millis, Level level, String thread, String correlationId, String message) {
+    }
+
+    private static final Level threshold = Level.valueOf(
+            ConfigurationReader.get("logLevel") == null ? "INFO" : ConfigurationReader.get("logLevel").trim().toUpperCase());
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    // Ring buffer: capacity is a power of two so a sequence maps to its slot with a mask
+    private static final int capacity = Integer.highestOneBit(Math.max(64, ConfigurationReader.getInt("logBufferSize", 8192)));
+    private static final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(capacity);
+
+    // Next sequence to claim (writers) / next sequence to write out (appender)
+    private static final AtomicLong head = new AtomicLong();
+    private static final AtomicLong tail = new AtomicLong();
+
+    private static final AtomicLong dropped = new AtomicLong();
+
+    // Correlation id of the test running on this thread
+    private static final ThreadLocal<String> correlationId = new ThreadLocal<>();
+    private static final AtomicLong testIds = new AtomicLong();
+
+    // Real console, captured before anything could redirect System.out
+    private static final PrintStream console = System.out;
+
+    private static final Thread appender = new Thread(Log::drainLoop, "log-appender");
+
+    static {
+        appender.setDaemon(true);
+        appender.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    // ================== API ==================
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public static void debug(String message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Debug message built only when DEBUG is enabled (for per-item diagnostics in loops).
+     */
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, message.get());
+        }
+    }
+
+    public static void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public static void warn(String message) {
+        log(Level.WARN, message);
+    }
+
+    public static void error(String message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Error with the failure's stack trace in the same entry (keeps the correlation id, unlike printStackTrace).
+     */
+    public static void error(String message, Throwable failure) {
+        if (isEnabled(Level.ERROR)) {
+            StringWriter trace = new StringWriter();
+            failure.printStackTrace(new PrintWriter(trace));
+            log(Level.ERROR, message + System.lineSeparator() + trace.toString().stripTrailing());
+        }
+    }
+
+    /**
+     * Starts a new correlation id for the test about to run on this thread; returns it.
+     * It stays on the thread until the next test begins, so listener output after tearDown still carries it.
+     */
+    public static String begin(String testName) {
+        String id = testName + "-" + testIds.incrementAndGet();
+        correlationId.set(id);
+        return id;
+    }
+
+    public static String correlationId() {
+        return correlationId.get();
+    }
+
+    /**
+     * Waits (up to 5 s) until everything logged so far is written out.
+     */
+    public static void flush() {
+        long target = head.get();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (tail.get() < target && System.currentTimeMillis() < deadline) {
+            LockSupport.unpark(appender);
+            LockSupport.parkNanos(1_000_000);
+        }
+        console.flush();
+    }
+
+    // ================== RING BUFFER ==================
+
+    private static void log(Level level, String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        long millis = System.currentTimeMillis();
+        String thread = Thread.currentThread().getName();
+        String id = correlationId.get();
+        while (true) {
+            long seq = head.get();
+            if (seq - tail.get() >= capacity) {
+                dropped.incrementAndGet();  // appender is behind by a full buffer: never block the test
+                return;
+            }
+            if (head.compareAndSet(seq, seq + 1)) {
+                slots.set((int) (seq & (capacity - 1)), new Entry(seq, millis, level, thread, id, message));
+                return;
+            }
+        }
+    }
+
+    private static void drainLoop() {
+        Writer json = openJsonFile();
+        StringBuilder batch = new StringBuilder(8192);
+        StringBuilder jsonBatch = new StringBuilder();
+        while (true) {
+            long next = tail.get();
+            int count = 0;
+            Entry entry;
+            // A claimed slot is published right after the CAS; stop at the first one not yet visible
+            while ((entry = slots.get((int) (next & (capacity - 1)))) != null && entry.seq() == next) {
+                format(entry, batch);
+                if (json != null) {
+                    formatJson(entry, jsonBatch);
+                }
+                next++;
+                count++;
+                if (count == 1024) {
+                    break;
+                }
+            }
+            if (count == 0) {
+                LockSupport.parkNanos(2_000_000);
+                continue;
+            }
+
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                batch.append("... ").append(lost).append(" rreshta log-u u hodhën (buffer plot)").append(System.lineSeparator());
+            }
+            console.print(batch);
+            batch.setLength(0);
+            if (json != null) {
+                try {
+                    json.write(jsonBatch.toString());
+                    json.flush();
+                } catch (IOException e) {
+                    json = null;
+                }
+                jsonBatch.setLength(0);
+            }
+            tail.set(next);  // frees the slots for writers
+        }
+    }
+
+    // ================== FORMAT ==================
+
+    private static void format(Entry e, StringBuilder out) {
+        out.append(LocalTime.ofInstant(Instant.ofEpochMilli(e.millis()), ZoneId.systemDefault()).format(TIME))
+                .append(' ').append(e.level()).append(e.level().name().length() == 4 ? "  " : " ")
+                .append(" [").append(e.correlationId() == null ? e.thread() : e.correlationId()).append("] ")
+                .append(e.message())
+                .append(System.lineSeparator());
+    }
+
+    private static void formatJson(Entry e, StringBuilder out) {
+        out.append("{\"ts\":").append(e.millis())
+                .append(",\"level\":\"").append(e.level()).append('"')
+                .append(",\"thread\":\"").append(escape(e.thread())).append('"');
+        if (e.correlationId() != null) {
+            out.append(",\"test\":\"").append(escape(e.correlationId())).append('"');
+        }
+        out.append(",\"msg\":\"").append(escape(e.message())).append("\"}\n");
+    }
+
+    private static String escape(String s) {
+        StringBuilder b = new StringBuilder(s.length() + 8);
+        for (char c : s.toCharArray()) {
+            switch (c) {
+                case '"' -> b.append("\\\"");
+                case '\\' -> b.append("\\\\");
+                case '\n' -> b.append("\\n");
+                case '\r' -> b.append("\\r");
+                case '\t' -> b.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        b.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        b.append(c);
+                    }
+                }
+            }
+        }
+        return b.toString();
+    }
+
+    private static Writer openJsonFile() {
+        String file = ConfigurationReader.get("logFile");
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(file);
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            console.println("logFile nuk u hap: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package core.utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MotionSuppression:
+ * Disables CSS animations/transitions (and jQuery effects) on every document the browser loads,
+ * via CDP Page.addScriptToEvaluateOnNewDocument. Dropdowns, flyouts and hover overlays then appear in their
+ * final state at once: waits do not pay for the animation and clicks do not land on half-moved elements.
+ * Applied per test by BaseTest unless the test declares @Rendering(motion = true).
+ */
+public class MotionSuppression {
+
+    private static final String CSS =
+            "*,*::before,*::after{"
+                    + "transition:none!important;transition-duration:0s!important;transition-delay:0s!important;"
+                    + "animation:none!important;animation-duration:0s!important;animation-delay:0s!important;"
+                    + "scroll-behavior:auto!important;caret-color:transparent!important}";
+
+    // Runs before any page script: the stylesheet goes in as soon as <html> exists, jQuery effects off once loaded
+    private static final String SCRIPT =
+            "(function(){"
+                    + "var css=" + quote(CSS) + ";"
+                    + "function inject(){if(!document.documentElement||document.getElementById('__qa-no-motion'))return false;"
+                    + "var s=document.createElement('style');s.id='__qa-no-motion';s.textContent=css;"
+                    + "document.documentElement.appendChild(s);return true;}"
+                    + "if(!inject()){new MutationObserver(function(m,o){if(inject())o.disconnect();})"
+                    + ".observe(document,{childList:true,subtree:true});}"
+                    + "document.addEventListener('DOMContentLoaded',function(){inject();"
+                    + "if(window.jQuery&&jQuery.fx){jQuery.fx.off=true;}});"
+                    + "})();";
+
+    // Identifier of the registered script per test thread, to lift suppression mid-test
+    private static final ThreadLocal<String> identifier = new ThreadLocal<>();
+
+    /**
+     * True when motionSuppressionEnabled=true (default).
+     */
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("motionSuppressionEnabled", true);
+    }
+
+    /**
+     * Registers the suppression script for all documents loaded from now on.
+     * Returns false when the browser has no CDP (the in-JVM driver does not animate anyway).
+     */
+    public static boolean suppress(WebDriver driver) {
+        if (identifier.get() != null) {
+            return true;
+        }
+        Optional<DevTools> session = CdpUtils.session(driver);
+        if (session.isEmpty()) {
+            return false;
+        }
+        Map<String, Object> result = CdpUtils.send(session.get(), "Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", SCRIPT));
+        identifier.set((String) result.get("identifier"));
+        return true;
+    }
+
+    /**
+     * Lets documents loaded from now on animate again (the current document keeps its state until reloaded).
+     */
+    public static void allow(WebDriver driver) {
+        String id = identifier.get();
+        identifier.remove();
+        if (id == null) {
+            return;
+        }
+        CdpUtils.session(driver).ifPresent(devTools ->
+                CdpUtils.send(devTools, "Page.removeScriptToEvaluateOnNewDocument", Map.of("identifier", id)));
+    }
+
+    /**
+     * Forgets the registration of the current thread; the script itself dies with the browser.
+     */
+    public static void reset() {
+        identifier.remove();
+    }
+
+    private static String quote(String s) {
+        return "'" + s.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+}
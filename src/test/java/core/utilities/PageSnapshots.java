@@ -0,0 +1,51 @@
+package core.utilities;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PageSnapshots:
+ * Stored HTML of each page in the states the tests reach (e.g. cart / empty cart),
+ * one folder per locator class: page-snapshots/ShoppingCartElements/empty.html.
+ * Refreshed during a normal run with pageSnapshotCapture=true (first occurrence per run wins),
+ * and read by LocatorValidator to check locators without a browser.
+ */
+public class PageSnapshots {
+
+    private static final Set<String> capturedThisRun = ConcurrentHashMap.newKeySet();
+
+    public static Path dir() {
+        String configured = ConfigurationReader.get("pageSnapshotDir");
+        return Path.of(configured == null || configured.isBlank() ? "page-snapshots" : configured);
+    }
+
+    /**
+     * Saves the current DOM as the given state of the page described by the locator class.
+     * Does nothing unless pageSnapshotCapture=true.
+     */
+    public static void capture(WebDriver driver, Class<?> elementsClass, String state) {
+        if (!ConfigurationReader.getBoolean("pageSnapshotCapture", false)) {
+            return;
+        }
+        String key = elementsClass.getSimpleName() + "/" + state;
+        if (!capturedThisRun.add(key)) {
+            return;
+        }
+
+        Path file = dir().resolve(key + ".html");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, driver.getPageSource(), StandardCharsets.UTF_8);
+            Log.info("Page snapshot: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot nuk u ruajt: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package core.utilities;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * PixelDiff:
+ * Fork/join comparison of two ARGB pixel arrays of the same size.
+ * Two pixels count as different when their perceptual (YIQ) distance exceeds the threshold,
+ * so antialiasing noise and tiny colour shifts do not fail a visual check.
+ * Returns the number of different pixels and fills a diff mask (red = changed, faded grey = unchanged).
+ */
+public class PixelDiff extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Maximum possible YIQ delta between two colours (black vs white)
+    private static final double MAX_YIQ_DELTA = 35215.0;
+
+    // Rows handled by a single task before it stops splitting
+    private static final int ROWS_PER_TASK = 32;
+
+    private final int[] expected;
+    private final int[] actual;
+    private final int[] diff;
+    private final int width;
+    private final int fromRow;
+    private final int toRow;
+    private final double maxDelta;
+
+    /**
+     * @param threshold 0..1, fraction of the maximum perceptual distance tolerated per pixel
+     */
+    public PixelDiff(int[] expected, int[] actual, int[] diff, int width, int height, double threshold) {
+        this(expected, actual, diff, width, 0, height, threshold * threshold * MAX_YIQ_DELTA);
+    }
+
+    private PixelDiff(int[] expected, int[] actual, int[] diff, int width, int fromRow, int toRow, double maxDelta) {
+        this.expected = expected;
+        this.actual = actual;
+        this.diff = diff;
+        this.width = width;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+        this.maxDelta = maxDelta;
+    }
+
+    @Override
+    protected Integer compute() {
+        if (toRow - fromRow <= ROWS_PER_TASK) {
+            return compareRows();
+        }
+
+        int middle = (fromRow + toRow) >>> 1;
+        PixelDiff top = new PixelDiff(expected, actual, diff, width, fromRow, middle, maxDelta);
+        PixelDiff bottom = new PixelDiff(expected, actual, diff, width, middle, toRow, maxDelta);
+        top.fork();
+        return bottom.compute() + top.join();
+    }
+
+    private int compareRows() {
+        int different = 0;
+        for (int i = fromRow * width, end = toRow * width; i < end; i++) {
+            int a = expected[i];
+            int b = actual[i];
+
+            if (a == b || yiqDelta(a, b) <= maxDelta) {
+                // Keep the picture readable: unchanged pixels as faded grey
+                int grey = 255 - ((255 - luma(b)) / 4);
+                diff[i] = 0xFF000000 | grey << 16 | grey << 8 | grey;
+            } else {
+                diff[i] = 0xFFFF0000;
+                different++;
+            }
+        }
+        return different;
+    }
+
+    /**
+     * Squared YIQ distance, as used by common perceptual image-diff tools.
+     */
+    private static double yiqDelta(int a, int b) {
+        int r1 = a >> 16 & 0xFF, g1 = a >> 8 & 0xFF, b1 = a & 0xFF;
+        int r2 = b >> 16 & 0xFF, g2 = b >> 8 & 0xFF, b2 = b & 0xFF;
+
+        double y = (r1 - r2) * 0.29889531 + (g1 - g2) * 0.58662247 + (b1 - b2) * 0.11448223;
+        double i = (r1 - r2) * 0.59597799 - (g1 - g2) * 0.27417610 - (b1 - b2) * 0.32180189;
+        double q = (r1 - r2) * 0.21147017 - (g1 - g2) * 0.52261711 + (b1 - b2) * 0.31114694;
+
+        return 0.5053 * y * y + 0.299 * i * i + 0.1957 * q * q;
+    }
+
+    private static int luma(int rgb) {
+        return (int) ((rgb >> 16 & 0xFF) * 0.299 + (rgb >> 8 & 0xFF) * 0.587 + (rgb & 0xFF) * 0.114);
+    }
+}
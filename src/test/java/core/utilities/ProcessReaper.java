@@ -0,0 +1,232 @@
+package core.utilities;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ProcessReaper:
+ * Makes sure no chromedriver/Chrome outlives the run that started it (processReaperEnabled=true).
+ * The process tree root of every launched session (its chromedriver) is tracked, together with its start
+ * instant so a reused PID is never mistaken for it, and written to processReaperFile. A JVM shutdown hook kills
+ * the trees still alive when the JVM exits without quitDriver(); at suite start, trees recorded by JVMs that
+ * are gone are killed. Only that reaping removes their lines; every JVM rewrites the file under a file lock.
+ * Only recorded roots are touched, and only if pid and start instant still match, the process is a chromedriver
+ * and it runs as the current user: other users' and other tools' browsers are never killed, and neither is the
+ * browser daemon (only its sessions' chromedrivers are recorded).
+ * Memory reclaimed (RSS of the killed trees, Linux) is printed and included in the browser metrics.
+ */
+public class ProcessReaper {
+
+    // Tracked root -> its start instant (epoch millis, 0 if unknown)
+    private static final Map<ProcessHandle, Long> tracked = new ConcurrentHashMap<>();
+
+    private static final AtomicLong reclaimedMb = new AtomicLong();
+
+    private static volatile boolean hookInstalled;
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("processReaperEnabled", true);
+    }
+
+    /**
+     * Tracks the process tree of a launched session until untrack().
+     */
+    static void track(ProcessHandle root) {
+        if (!isEnabled() || root == null) {
+            return;
+        }
+        installHook();
+        tracked.put(root, startMillis(root));
+        save();
+    }
+
+    /**
+     * The session was quit: stop tracking it, killing whatever of its tree did not exit with it.
+     */
+    static void untrack(ProcessHandle root) {
+        if (root == null || tracked.remove(root) == null) {
+            return;
+        }
+        if (root.isAlive()) {
+            kill(root, "mbeti pas quit()");
+        }
+        save();
+    }
+
+    /**
+     * Suite start: kills the trees left behind by earlier runs.
+     */
+    public static void reapOrphans() {
+        if (!isEnabled()) {
+            return;
+        }
+        long before = reclaimedMb.get();
+
+        // Entries of JVMs that are no longer alive leave the file under the lock; their trees are killed after
+        List<long[]> orphans = new ArrayList<>();
+        rewrite(lines -> {
+            List<String> kept = new ArrayList<>();
+            for (String line : lines) {
+                long[] entry = parse(line);
+                if (entry == null) {
+                    Log.warn("ProcessReaper: rresht i pavlefshëm u hodh: " + line);
+                } else if (entry[0] == ProcessHandle.current().pid() || ProcessHandle.of(entry[0]).isPresent()) {
+                    kept.add(line);
+                } else {
+                    orphans.add(entry);
+                }
+            }
+            return kept;
+        });
+
+        int killed = 0;
+        for (long[] entry : orphans) {
+            Optional<ProcessHandle> root = ProcessHandle.of(entry[1]);
+            if (root.isPresent() && isRecorded(root.get(), entry[2])) {
+                kill(root.get(), "regjistruar nga JVM " + entry[0]);
+                killed++;
+            }
+        }
+
+        Log.info("ProcessReaper: " + killed + " procese jetime u mbyllën, u lirua "
+                + (reclaimedMb.get() - before) + " MB.");
+    }
+
+    /**
+     * Total RSS reclaimed by killing process trees in this JVM, in MB.
+     */
+    public static long reclaimedMb() {
+        return reclaimedMb.get();
+    }
+
+    // ================== INTERNALS ==================
+
+    private static synchronized void installHook() {
+        if (hookInstalled) {
+            return;
+        }
+        hookInstalled = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (ProcessHandle root : new ArrayList<>(tracked.keySet())) {
+                if (root.isAlive()) {
+                    kill(root, "JVM po mbyllet");
+                }
+            }
+            tracked.clear();
+            save();
+        }, "process-reaper"));
+    }
+
+    /**
+     * True if the live process is still the recorded chromedriver: same start instant (pid not reused),
+     * a chromedriver executable, owned by the user running this JVM.
+     */
+    private static boolean isRecorded(ProcessHandle process, long recordedStart) {
+        if (recordedStart == 0 || startMillis(process) != recordedStart) {
+            return false;
+        }
+        String command = process.info().command().orElse("");
+        if (!command.endsWith("chromedriver") && !command.endsWith("chromedriver.exe")) {
+            return false;
+        }
+        Optional<String> user = process.info().user();
+        return user.isPresent() && user.equals(ProcessHandle.current().info().user());
+    }
+
+    private static void kill(ProcessHandle root, String reason) {
+        long mb = ResourceGovernor.rssMb(root);
+        List<ProcessHandle> tree = Stream.concat(root.descendants(), Stream.of(root)).collect(Collectors.toList());
+        tree.forEach(ProcessHandle::destroy);
+        for (ProcessHandle p : tree) {
+            try {
+                p.onExit().get(2, java.util.concurrent.TimeUnit.SECONDS);
+            } catch (Exception e) {
+                p.destroyForcibly();
+            }
+        }
+        reclaimedMb.addAndGet(mb);
+        Log.info("ProcessReaper: u mbyll pema " + root.pid() + " (" + reason + "), " + mb + " MB.");
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+
+    private static Path file() {
+        String path = ConfigurationReader.get("processReaperFile");
+        return Paths.get(path == null ? "test-history/browser-pids.txt" : path);
+    }
+
+    /**
+     * Owner pid, root pid and root start of a "owner root start" line; null if the line is malformed.
+     */
+    private static long[] parse(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Rewrites this JVM's entries with what it tracks now. Every other line is kept: entries of dead JVMs are
+     * removed by reapOrphans() only, once their trees have been dealt with.
+     */
+    private static void save() {
+        long self = ProcessHandle.current().pid();
+        rewrite(lines -> {
+            List<String> kept = new ArrayList<>();
+            for (String line : lines) {
+                long[] entry = parse(line);
+                if (entry == null || entry[0] != self) {
+                    kept.add(line);
+                }
+            }
+            tracked.forEach((root, start) -> kept.add(self + " " + root.pid() + " " + start));
+            return kept;
+        });
+    }
+
+    /**
+     * Read-modify-write of the file under a cross-JVM lock on a sibling file (and the class monitor, since
+     * a JVM may hold only one lock on a file).
+     */
+    private static synchronized void rewrite(UnaryOperator<List<String>> change) {
+        Path lockFile = file().resolveSibling(file().getFileName() + ".lock");
+        try {
+            Files.createDirectories(lockFile.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    List<String> lines = Files.exists(file())
+                            ? Files.readAllLines(file(), StandardCharsets.UTF_8) : List.of();
+                    Files.write(file(), change.apply(lines), StandardCharsets.UTF_8);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            Log.warn("ProcessReaper: skedari i PID-ve nuk u ruajt: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package core.utilities;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * ResourceGovernor:
+ * Admission control for Chrome sessions (governorEnabled=true). A new browser is admitted only while the machine
+ * keeps governorReserveMb of available memory after it (its size estimated from the RSS of the live Chrome
+ * process trees) and system CPU load stays under governorMaxCpu. Requests over budget wait in FIFO order;
+ * with no browser alive or starting the request is always admitted. An admitted browser reserves its estimate
+ * until it registers, so requests admitted together do not all count the same free memory. Long-lived browsers (daemon, shared tab browser)
+ * are recycled once a renderer grows past governorRecycleRendererMb.
+ * Live/starting/peak browser counts, queueing and peak RSS are written to test-output/browser-metrics.properties
+ * whenever a browser starts or stops, so the file shows the current concurrency while the suite runs.
+ * RSS is read from /proc (Linux); elsewhere sizes fall back to governorSessionMb and recycling is off.
+ */
+public class ResourceGovernor {
+
+    private static final long MB = 1024 * 1024;
+
+    private static final long POLL_MS = 500;
+
+    // Fair: queued admissions are served in arrival order
+    private static final ReentrantLock queue = new ReentrantLock(true);
+
+    // Live Chrome sessions and the root process of each (chromedriver, or Chrome itself for the daemon)
+    private static final Map<BrowserSession, ProcessHandle> live = new ConcurrentHashMap<>();
+
+    // Admitted browsers still starting: each holds a sessionEstimateMb() reservation until register()
+    private static final AtomicInteger starting = new AtomicInteger();
+
+    private static final AtomicInteger peakLive = new AtomicInteger();
+    private static final AtomicInteger admitted = new AtomicInteger();
+    private static final AtomicInteger queued = new AtomicInteger();
+    private static final AtomicInteger recycled = new AtomicInteger();
+    private static final AtomicLong queuedMillis = new AtomicLong();
+    private static final AtomicLong peakSessionMb = new AtomicLong();
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("governorEnabled", true);
+    }
+
+    /**
+     * Blocks until a new browser fits the memory/CPU budget (or governorMaxWaitSeconds passed).
+     */
+    static void admit() {
+        if (!isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long deadline = start + ConfigurationReader.getInt("governorMaxWaitSeconds", 300) * 1000L;
+        queue.lock();
+        try {
+            boolean waited = false;
+            String reason;
+            while ((reason = overBudget()) != null) {
+                if (!waited) {
+                    waited = true;
+                    queued.incrementAndGet();
+                    Log.warn("Browser-i i ri në pritje: " + reason);
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    Log.warn("Pritja e burimeve skadoi, po nis browser-in gjithsesi: " + reason);
+                    break;
+                }
+                Thread.sleep(POLL_MS);
+            }
+            if (waited) {
+                queuedMillis.addAndGet(System.currentTimeMillis() - start);
+            }
+            admitted.incrementAndGet();
+            starting.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queue.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking admission for optional browsers (pre-spawning): true only if one fits right now
+     * and no request is queued.
+     */
+    static boolean tryAdmit() {
+        if (!isEnabled()) {
+            return true;
+        }
+        if (!queue.tryLock()) {
+            return false;
+        }
+        try {
+            if (overBudget() != null) {
+                return false;
+            }
+            admitted.incrementAndGet();
+            starting.incrementAndGet();
+            return true;
+        } finally {
+            queue.unlock();
+        }
+    }
+
+    static void register(BrowserSession session, ProcessHandle root) {
+        if (root == null) {
+            root = ProcessHandle.current();  // unknown tree: counted, not measured
+        }
+        live.put(session, root);
+        starting.updateAndGet(n -> Math.max(0, n - 1));
+        peakLive.accumulateAndGet(live.size(), Math::max);
+        publish();
+    }
+
+    /**
+     * An admitted browser failed to start: frees its reservation.
+     */
+    static void abandon() {
+        starting.updateAndGet(n -> Math.max(0, n - 1));
+    }
+
+    /**
+     * Records the RSS of the session's process tree; call while the browser still runs (before quit).
+     */
+    static void measure(BrowserSession session) {
+        ProcessHandle root = live.get(session);
+        if (root != null && root != ProcessHandle.current()) {
+            peakSessionMb.accumulateAndGet(rssMb(root), Math::max);
+        }
+    }
+
+    static void unregister(BrowserSession session) {
+        if (live.remove(session) != null) {
+            publish();
+        }
+    }
+
+    /**
+     * True if a renderer of the session's browser grew past governorRecycleRendererMb.
+     */
+    static boolean shouldRecycle(BrowserSession session) {
+        ProcessHandle root = live.get(session);
+        if (!isEnabled() || root == null || root == ProcessHandle.current()) {
+            return false;
+        }
+        long limit = ConfigurationReader.getInt("governorRecycleRendererMb", 1500);
+        long renderer = treeOf(root)
+                .filter(p -> hasArgument(p, "--type=renderer"))
+                .mapToLong(ResourceGovernor::ownRssMb)
+                .max().orElse(0);
+        if (renderer > limit) {
+            recycled.incrementAndGet();
+            Log.warn("Renderer-i ka " + renderer + " MB (> " + limit + " MB) – browser-i riciklohet.");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Root process of the Chrome started for a chromedriver listening on the given port (a child of this JVM).
+     */
+    static ProcessHandle driverProcess(int port) {
+        return ProcessHandle.current().children()
+                .filter(p -> hasArgument(p, "--port=" + port))
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * Suite end: prints and stores live/peak concurrency and queueing figures.
+     */
+    public static void report() {
+        Log.info("Burimet e browser-ave: " + publish());
+    }
+
+    // Writes the current figures (replacing the file in one move, so readers never see half of it)
+    private static synchronized Properties publish() {
+        Properties metrics = new Properties();
+        metrics.setProperty("browsersLive", String.valueOf(live.size()));
+        metrics.setProperty("browsersStarting", String.valueOf(starting.get()));
+        metrics.setProperty("browsersPeak", String.valueOf(peakLive.get()));
+        metrics.setProperty("admitted", String.valueOf(admitted.get()));
+        metrics.setProperty("queued", String.valueOf(queued.get()));
+        metrics.setProperty("queuedMillis", String.valueOf(queuedMillis.get()));
+        metrics.setProperty("recycled", String.valueOf(recycled.get()));
+        metrics.setProperty("peakSessionRssMb", String.valueOf(peakSessionMb.get()));
+        metrics.setProperty("reapedMb", String.valueOf(ProcessReaper.reclaimedMb()));
+        metrics.setProperty("availableMb", String.valueOf(availableMb()));
+
+        Log.debug(() -> "Browser-a aktivë: " + live.size() + ", duke u nisur: " + starting.get());
+        Path file = Paths.get("test-output", "browser-metrics.properties");
+        Path temp = file.resolveSibling("browser-metrics.properties.tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                metrics.store(out, "Browser resource governor (ResourceGovernor)");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.warn("Metrikat e browser-ave nuk u ruajtën: " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    // ================== BUDGET ==================
+
+    /**
+     * Null if one more browser fits, otherwise why not.
+     */
+    private static String overBudget() {
+        int pending = starting.get();
+        if (live.isEmpty() && pending == 0) {
+            return null;
+        }
+        long need = sessionEstimateMb();
+        // Browsers still starting have not taken their memory yet
+        long reserved = pending * need;
+        long available = availableMb();
+        long reserve = ConfigurationReader.getInt("governorReserveMb", 1024);
+        if (available >= 0 && available - reserved - need < reserve) {
+            return "memorie e lirë " + available + " MB (" + reserved + " MB të rezervuara për " + pending
+                    + " në nisje), duhen " + need + " MB + rezerva " + reserve + " MB";
+        }
+        double cpu = cpuLoad();
+        double maxCpu = ConfigurationReader.getDouble("governorMaxCpu", 0.85);
+        if (cpu >= 0 && cpu > maxCpu) {
+            return String.format("ngarkesa CPU %.0f%% > %.0f%%", cpu * 100, maxCpu * 100);
+        }
+        return null;
+    }
+
+    // Average RSS of the measured live browsers, never below governorSessionMb
+    private static long sessionEstimateMb() {
+        long floor = ConfigurationReader.getInt("governorSessionMb", 500);
+        double average = live.values().stream()
+                .filter(p -> p != ProcessHandle.current())
+                .mapToLong(ResourceGovernor::rssMb)
+                .filter(mb -> mb > 0)
+                .average().orElse(0);
+        return Math.max(floor, Math.round(average));
+    }
+
+    private static long availableMb() {
+        Path meminfo = Paths.get("/proc/meminfo");
+        if (Files.isReadable(meminfo)) {
+            try {
+                for (String line : Files.readAllLines(meminfo)) {
+                    if (line.startsWith("MemAvailable:")) {
+                        return kb(line) / 1024;
+                    }
+                }
+            } catch (IOException e) {
+                // fall through to the OS bean
+            }
+        }
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getFreeMemorySize() / MB;
+        }
+        return -1;
+    }
+
+    private static double cpuLoad() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            double load = os.getCpuLoad();
+            return Double.isNaN(load) ? -1 : load;
+        }
+        return -1;
+    }
+
+    // ================== PROCESS MEMORY ==================
+
+    private static Stream<ProcessHandle> treeOf(ProcessHandle root) {
+        return Stream.concat(Stream.of(root), root.descendants());
+    }
+
+    static long rssMb(ProcessHandle root) {
+        return treeOf(root).mapToLong(ResourceGovernor::ownRssMb).sum();
+    }
+
+    private static long ownRssMb(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            List<String> lines = Files.readAllLines(status);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    return kb(line) / 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // process gone or not Linux
+        }
+        return 0;
+    }
+
+    private static long kb(String procLine) {
+        String[] parts = procLine.trim().split("\\s+");
+        return Long.parseLong(parts[1]);
+    }
+
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        return process.info().arguments()
+                .map(args -> Arrays.asList(args).contains(argument))
+                .orElse(false);
+    }
+}
@@ -0,0 +1,51 @@
+package core.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RingBuffer:
+ * Fixed-capacity buffer that overwrites its oldest entry when full.
+ * Used for diagnostics collected during a test, so memory stays bounded however long it runs.
+ */
+public class RingBuffer<T> {
+
+    private final Object[] items;
+    private int next;
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("RingBuffer capacity must be positive: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    public synchronized void add(T item) {
+        items[next] = item;
+        next = (next + 1) % items.length;
+        if (size < items.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Returns a copy of the current content, oldest first.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> snapshot() {
+        List<T> copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copy.add((T) items[Math.floorMod(next - size + i, items.length)]);
+        }
+        return copy;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < items.length; i++) {
+            items[i] = null;
+        }
+        next = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,135 @@
+package core.utilities;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * ScreencastRecorder:
+ * Records the browser through CDP Page.startScreencast into a fixed-size in-memory ring.
+ * Only the last N seconds of frames are kept, so memory stays bounded for long tests.
+ * Chrome is asked for every n-th frame only (everyNthFrame), n chosen so that maxFrames frames at
+ * screencastExpectedFps cover the whole window; otherwise the frame cap would cut it to a few seconds.
+ * Nothing touches the disk unless flushTo() is called (from the failure hook in TestListener).
+ */
+public class ScreencastRecorder {
+
+    // Frame rate Chrome delivers while the page changes (it sends nothing while the page is static)
+    private static final int DEFAULT_EXPECTED_FPS = 30;
+
+    private final DevTools devTools;
+    private final long windowMillis;
+    private final int everyNthFrame;
+
+    // Ring buffer: frames[i] is a JPEG, stamps[i] the time it was received
+    private final byte[][] frames;
+    private final long[] stamps;
+    private int next;
+    private int size;
+
+    private volatile boolean recording;
+
+    private ScreencastRecorder(DevTools devTools, int seconds, int maxFrames) {
+        this.devTools = devTools;
+        this.windowMillis = seconds * 1000L;
+        int fps = Math.max(1, ConfigurationReader.getInt("screencastExpectedFps", DEFAULT_EXPECTED_FPS));
+        this.everyNthFrame = Math.max(1, (seconds * fps + maxFrames - 1) / maxFrames);
+        this.frames = new byte[maxFrames][];
+        this.stamps = new long[maxFrames];
+    }
+
+    /**
+     * Starts a screencast on the given driver. Returns null if the browser has no DevTools.
+     */
+    public static ScreencastRecorder attach(WebDriver driver, int seconds, int maxFrames) {
+        DevTools devTools = CdpUtils.session(driver).orElse(null);
+        if (devTools == null) {
+            return null;
+        }
+
+        ScreencastRecorder recorder = new ScreencastRecorder(devTools, seconds, maxFrames);
+        recorder.start();
+        return recorder;
+    }
+
+    private void start() {
+        CdpUtils.on(devTools, "Page.screencastFrame", params -> {
+            if (!recording) {
+                return;
+            }
+            store(Base64.getDecoder().decode((String) params.get("data")));
+            // Chrome stops sending frames until the previous one is acknowledged
+            CdpUtils.sendNoWait(devTools, "Page.screencastFrameAck",
+                    Map.of("sessionId", params.get("sessionId")));
+        });
+
+        recording = true;
+        CdpUtils.send(devTools, "Page.startScreencast", Map.of(
+                "format", "jpeg",
+                "quality", 60,
+                "maxWidth", 1280,
+                "maxHeight", 720,
+                "everyNthFrame", everyNthFrame
+        ));
+    }
+
+    private synchronized void store(byte[] jpeg) {
+        frames[next] = jpeg;
+        stamps[next] = System.currentTimeMillis();
+        next = (next + 1) % frames.length;
+        if (size < frames.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Writes the frames of the last N seconds as a Motion-JPEG clip (playable with VLC / ffplay).
+     * Returns the number of frames written.
+     */
+    public synchronized int flushTo(Path target) throws IOException {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        int written = 0;
+
+        Files.createDirectories(target.getParent());
+        try (OutputStream out = Files.newOutputStream(target)) {
+            // Oldest frame sits at (next - size), walk forward to the newest
+            for (int i = 0; i < size; i++) {
+                int idx = Math.floorMod(next - size + i, frames.length);
+                if (stamps[idx] >= cutoff) {
+                    out.write(frames[idx]);
+                    written++;
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Stops the screencast and releases the buffered frames.
+     */
+    public void stop() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        // Sent outside the lock: the response is dispatched on the same thread that calls store()
+        try {
+            CdpUtils.send(devTools, "Page.stopScreencast", Map.of());
+        } catch (RuntimeException ignored) {
+            // browser may already be gone
+        }
+        synchronized (this) {
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = null;
+            }
+            size = 0;
+            next = 0;
+        }
+    }
+}
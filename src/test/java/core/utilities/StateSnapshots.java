@@ -0,0 +1,190 @@
+package core.utilities;
+
+import core.globals.Fixture;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StateSnapshots:
+ * Captures browser-side state (all cookies plus localStorage / sessionStorage of the AUT origin)
+ * over CDP once an expensive precondition has been built, and restores it into another browser in one step.
+ * Snapshots are keyed by the fixture they represent and dropped as soon as that server-side state is mutated
+ * (see invalidate), or when they are older than snapshotMaxAgeMinutes.
+ */
+public class StateSnapshots {
+
+    private static final String[] COOKIE_FIELDS =
+            {"name", "value", "domain", "path", "secure", "httpOnly", "sameSite", "expires"};
+
+    private static final Map<Fixture, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private static final class Snapshot {
+        final List<Map<String, Object>> cookies;
+        final List<Object> localStorage;
+        final List<Object> sessionStorage;
+        final long takenAt;
+
+        Snapshot(List<Map<String, Object>> cookies, List<Object> localStorage, List<Object> sessionStorage,
+                 long takenAt) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.takenAt = takenAt;
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("snapshotsEnabled", false);
+    }
+
+    /**
+     * Captures the current browser state as the given fixture. Does nothing if disabled or CDP is unavailable.
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(Fixture fixture, WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        Optional<DevTools> session = CdpUtils.session(driver);
+        if (session.isEmpty()) {
+            return;
+        }
+        DevTools devTools = session.get();
+
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        List<Object> all = (List<Object>) CdpUtils.send(devTools, "Network.getAllCookies", Map.of()).get("cookies");
+        for (Object o : all) {
+            Map<String, Object> cookie = (Map<String, Object>) o;
+            Map<String, Object> param = new LinkedHashMap<>();
+            for (String field : COOKIE_FIELDS) {
+                if (cookie.containsKey(field)) {
+                    param.put(field, cookie.get(field));
+                }
+            }
+            // Session cookies are reported with expires = -1; setCookies expects the field to be absent
+            if (Boolean.TRUE.equals(cookie.get("session"))) {
+                param.remove("expires");
+            }
+            cookies.add(param);
+        }
+
+        CdpUtils.send(devTools, "DOMStorage.enable", Map.of());
+        Snapshot snapshot = new Snapshot(cookies,
+                storageItems(devTools, driver, true),
+                storageItems(devTools, driver, false),
+                System.currentTimeMillis());
+
+        SNAPSHOTS.put(fixture, snapshot);
+        Log.info("Snapshot u ruajt: " + fixture + " (" + cookies.size() + " cookies)");
+    }
+
+    /**
+     * Restores the snapshot of the given fixture into the browser and reloads the AUT home page.
+     * Returns false (and leaves the browser untouched) if there is no valid snapshot,
+     * in which case the caller builds the state the usual way.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean restore(Fixture fixture, WebDriver driver) {
+        if (!isEnabled()) {
+            return false;
+        }
+        Snapshot snapshot = SNAPSHOTS.get(fixture);
+        if (snapshot == null) {
+            return false;
+        }
+        long maxAgeMs = ConfigurationReader.getInt("snapshotMaxAgeMinutes", 30) * 60_000L;
+        if (System.currentTimeMillis() - snapshot.takenAt > maxAgeMs) {
+            SNAPSHOTS.remove(fixture, snapshot);
+            return false;
+        }
+        Optional<DevTools> session = CdpUtils.session(driver);
+        if (session.isEmpty()) {
+            return false;
+        }
+        DevTools devTools = session.get();
+
+        CdpUtils.send(devTools, "Network.clearBrowserCookies", Map.of());
+        CdpUtils.send(devTools, "Network.setCookies", Map.of("cookies", snapshot.cookies));
+
+        // Storage is per origin: the AUT origin must be loaded before its items can be written
+        driver.get(ConfigurationReader.get("url"));
+        CdpUtils.send(devTools, "DOMStorage.enable", Map.of());
+        writeStorageItems(devTools, driver, true, snapshot.localStorage);
+        writeStorageItems(devTools, driver, false, snapshot.sessionStorage);
+        driver.navigate().refresh();
+
+        Log.info("Snapshot u rikthye: " + fixture);
+        return true;
+    }
+
+    /**
+     * Drops the snapshot of a fixture whose server-side state has just been changed.
+     */
+    public static void invalidate(Fixture fixture) {
+        if (SNAPSHOTS.remove(fixture) != null) {
+            Log.info("Snapshot u anulua: " + fixture);
+        }
+    }
+
+    // ================== PERSISTENCE (SuiteCheckpoint) ==================
+
+    /**
+     * All current snapshots as plain JSON-friendly maps, keyed by fixture name.
+     */
+    public static Map<String, Object> export() {
+        Map<String, Object> exported = new LinkedHashMap<>();
+        SNAPSHOTS.forEach((fixture, snapshot) -> exported.put(fixture.name(), Map.of(
+                "cookies", snapshot.cookies,
+                "localStorage", snapshot.localStorage,
+                "sessionStorage", snapshot.sessionStorage,
+                "takenAt", snapshot.takenAt)));
+        return exported;
+    }
+
+    /**
+     * Re-imports snapshots written by export() (e.g. from a checkpoint file).
+     */
+    @SuppressWarnings("unchecked")
+    public static void importAll(Map<String, Object> exported) {
+        exported.forEach((name, value) -> {
+            Map<String, Object> snapshot = (Map<String, Object>) value;
+            SNAPSHOTS.put(Fixture.valueOf(name), new Snapshot(
+                    (List<Map<String, Object>>) snapshot.get("cookies"),
+                    (List<Object>) snapshot.get("localStorage"),
+                    (List<Object>) snapshot.get("sessionStorage"),
+                    ((Number) snapshot.get("takenAt")).longValue()));
+        });
+    }
+
+    // ================== DOM STORAGE ==================
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> storageItems(DevTools devTools, WebDriver driver, boolean local) {
+        return (List<Object>) CdpUtils.send(devTools, "DOMStorage.getDOMStorageItems",
+                Map.of("storageId", storageId(driver, local))).get("entries");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeStorageItems(DevTools devTools, WebDriver driver, boolean local, List<Object> entries) {
+        Map<String, Object> storageId = storageId(driver, local);
+        for (Object entry : entries) {
+            List<Object> pair = (List<Object>) entry;
+            CdpUtils.send(devTools, "DOMStorage.setDOMStorageItem",
+                    Map.of("storageId", storageId, "key", pair.get(0), "value", pair.get(1)));
+        }
+    }
+
+    private static Map<String, Object> storageId(WebDriver driver, boolean local) {
+        URI current = URI.create(driver.getCurrentUrl());
+        String origin = current.getScheme() + "://" + current.getAuthority();
+        return Map.of("securityOrigin", origin, "isLocalStorage", local);
+    }
+}
@@ -0,0 +1,144 @@
+package core.utilities;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * StepRetry:
+ * Retries a single page-object step instead of failing (and re-running) the whole test.
+ * Failures are classified first: transient WebDriver errors and AUT timeouts are retried
+ * after restoring the step's checkpoint (e.g. reloading the page the step starts from);
+ * assertion failures and everything else are rethrown immediately.
+ * Steps that change server-side state pass a "done" check, asked after a retryable failure:
+ * if the failed attempt already had its effect, the step counts as completed instead of running twice.
+ * Each test has a bounded retry budget (stepRetryBudget); retries and the time they cost
+ * are collected per test and reported by StepRetryListener.
+ * Current callers are the WishlistPage wishlist -> cart steps, which only run with fixtureSeeding=ui.
+ */
+public class StepRetry {
+
+    public enum FailureClass { TRANSIENT_WEBDRIVER, AUT_TIMEOUT, ASSERTION, OTHER }
+
+    /**
+     * Retries used by the current test and the time spent on failed attempts and checkpoints.
+     */
+    public static final class Stats {
+        private int retries;
+        private long millis;
+        private int budgetLeft = ConfigurationReader.getInt("stepRetryBudget", 3);
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+    }
+
+    private static final ThreadLocal<Stats> STATS = ThreadLocal.withInitial(Stats::new);
+
+    public static FailureClass classify(Throwable failure) {
+        if (failure instanceof AssertionError) {
+            return FailureClass.ASSERTION;
+        }
+        if (failure instanceof TimeoutException) {
+            return FailureClass.AUT_TIMEOUT;
+        }
+        if (failure instanceof StaleElementReferenceException
+                || failure instanceof ElementClickInterceptedException
+                || failure instanceof ElementNotInteractableException
+                || failure instanceof MoveTargetOutOfBoundsException) {
+            return FailureClass.TRANSIENT_WEBDRIVER;
+        }
+        return FailureClass.OTHER;
+    }
+
+    /**
+     * Runs a step; on a retryable failure restores the checkpoint and runs it again while the budget lasts.
+     */
+    public static void run(String step, Runnable checkpoint, Runnable action) {
+        call(step, checkpoint, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Like run(), for a step that is not idempotent (adds to the cart, moves a wishlist item, ...):
+     * after a retryable failure, done tells whether the failed attempt already took effect;
+     * if so the step is not repeated.
+     */
+    public static void run(String step, Runnable checkpoint, Runnable action, BooleanSupplier done) {
+        call(step, checkpoint, () -> {
+            action.run();
+            return null;
+        }, done);
+    }
+
+    public static <T> T call(String step, Runnable checkpoint, Supplier<T> action) {
+        return call(step, checkpoint, action, null);
+    }
+
+    private static <T> T call(String step, Runnable checkpoint, Supplier<T> action, BooleanSupplier done) {
+        Stats stats = STATS.get();
+        while (true) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } catch (RuntimeException | AssertionError failure) {
+                FailureClass kind = classify(failure);
+                boolean retryable = kind == FailureClass.TRANSIENT_WEBDRIVER
+                        // a timeout is only worth retrying while the AUT itself is healthy
+                        || (kind == FailureClass.AUT_TIMEOUT && !AutHealth.isOpen());
+                if (!retryable || stats.budgetLeft <= 0) {
+                    throw failure;
+                }
+                if (done != null && tookEffect(done, failure)) {
+                    Log.warn(step + " dështoi (" + failure.getClass().getSimpleName()
+                            + ") pasi kishte efekt – nuk përsëritet");
+                    return null;
+                }
+
+                stats.budgetLeft--;
+                stats.retries++;
+                Log.warn("Retry " + step + " (" + kind + ": "
+                        + failure.getClass().getSimpleName() + "), mbeten " + stats.budgetLeft);
+                checkpoint.run();
+                stats.millis += (System.nanoTime() - start) / 1_000_000;
+            }
+        }
+    }
+
+    private static boolean tookEffect(BooleanSupplier done, Throwable failure) {
+        try {
+            return done.getAsBoolean();
+        } catch (RuntimeException e) {
+            // State unknown: do not risk repeating the action
+            failure.addSuppressed(e);
+            throw failure instanceof RuntimeException ? (RuntimeException) failure : new IllegalStateException(failure);
+        }
+    }
+
+    /**
+     * Starts a fresh budget for the test running on this thread.
+     */
+    public static void begin() {
+        STATS.set(new Stats());
+    }
+
+    /**
+     * Returns the finished test's statistics and clears them.
+     */
+    public static Stats end() {
+        Stats stats = STATS.get();
+        STATS.remove();
+        return stats;
+    }
+}
@@ -0,0 +1,210 @@
+package core.utilities;
+
+import core.globals.Fixture;
+import core.globals.Globals;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SuiteCheckpoint:
+ * Progress of the fixture chain (Test1 -> Test8) persisted to a local JSON file after every passing test:
+ * passed tests, the fixtures they provided, the account carrying them and the browser state snapshots
+ * (session cookies + storage, see StateSnapshots).
+ * With resumeFromCheckpoint=true the next run skips the tests that already passed and restores that state,
+ * so it starts right at the first failed test.
+ *
+ * With the account pool, only the email is stored and a resumed run leases that account through
+ * AccountPool, handing it to the tests consuming its fixtures; if the account is leased elsewhere,
+ * its fixtures are dropped and their providers run again. Without the pool, the file holds Test1's
+ * password in plain text. Either way it holds live session cookies: keep test-history/ out of version
+ * control and CI artifacts.
+ */
+public class SuiteCheckpoint {
+
+    private static final Json JSON = new Json();
+
+    private static final Set<String> passed = new LinkedHashSet<>();
+    private static final Set<Fixture> provided = new LinkedHashSet<>();
+    private static Map<String, Object> state;
+
+    // Pooled account carrying the provided fixtures (see AccountPool.finish)
+    private static String account;
+
+    public static boolean isResume() {
+        return ConfigurationReader.getBoolean("resumeFromCheckpoint", false);
+    }
+
+    private static Path file() {
+        String configured = ConfigurationReader.get("checkpointFile");
+        return Path.of(configured == null || configured.isBlank() ? "test-history/checkpoint.json" : configured);
+    }
+
+    /**
+     * True if the test passed in the checkpointed run and everything it provided is still valid.
+     */
+    public static synchronized boolean canSkip(String testId, Collection<Fixture> provides) {
+        load();
+        return passed.contains(testId) && provided.containsAll(provides);
+    }
+
+    public static synchronized boolean isProvided(Fixture fixture) {
+        load();
+        return provided.contains(fixture);
+    }
+
+    /**
+     * Called at suite start: a normal run starts a new checkpoint, a resumed run restores
+     * the credentials and snapshots of the previous one.
+     */
+    public static synchronized void begin() {
+        if (!isResume()) {
+            passed.clear();
+            provided.clear();
+            state = Map.of();
+            save();
+            return;
+        }
+
+        load();
+        if (!AccountPool.isEnabled() && state.get("email") != null) {
+            Globals.registeredEmail = (String) state.get("email");
+            Globals.registeredPassword = (String) state.get("password");
+            Globals.registeredName = (String) state.get("name");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> snapshots = (Map<String, Object>) state.get("snapshots");
+        if (snapshots != null) {
+            StateSnapshots.importAll(snapshots);
+            // Snapshots of fixtures dropped on load (account not available) no longer apply
+            for (Fixture fixture : Fixture.values()) {
+                if (!provided.contains(fixture)) {
+                    StateSnapshots.invalidate(fixture);
+                }
+            }
+        }
+        Log.info("Resume nga checkpoint: " + passed.size() + " teste të kaluara, fixtures " + provided);
+    }
+
+    /**
+     * Records a passing test and the fixtures it provided.
+     */
+    public static synchronized void passed(String testId, Collection<Fixture> fixtures) {
+        load();
+        passed.add(testId);
+        provided.addAll(fixtures);
+        save();
+    }
+
+    /**
+     * Records the pooled account that carries the provided fixtures.
+     */
+    public static synchronized void account(String email) {
+        load();
+        account = email;
+        save();
+    }
+
+    /**
+     * A failed test may have consumed part of the state it required (e.g. half-emptied cart):
+     * those fixtures are dropped, so a resumed run runs their providers again.
+     * The account itself stays valid.
+     */
+    public static synchronized void failed(Collection<Fixture> required) {
+        load();
+        for (Fixture fixture : required) {
+            if (fixture != Fixture.REGISTERED_ACCOUNT) {
+                provided.remove(fixture);
+                StateSnapshots.invalidate(fixture);
+            }
+        }
+        save();
+    }
+
+    // ================== FILE ==================
+
+    @SuppressWarnings("unchecked")
+    private static void load() {
+        if (state != null) {
+            return;
+        }
+        state = Map.of();
+        if (!Files.exists(file())) {
+            return;
+        }
+        try {
+            state = JSON.toType(Files.readString(file(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+            passed.addAll((List<String>) state.getOrDefault("passed", List.of()));
+            for (Object name : (List<Object>) state.getOrDefault("fixtures", List.of())) {
+                provided.add(Fixture.valueOf((String) name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint nuk u lexua: " + file(), e);
+        }
+        if (isResume() && AccountPool.isEnabled()) {
+            leaseCheckpointedAccount();
+        }
+    }
+
+    /**
+     * Resume with the pool: the fixtures live on the checkpointed account, so it is leased (exclusively,
+     * like any other pool account) and handed to their consumers. Runs on first load, before the
+     * dependency transformer decides which providers to skip.
+     */
+    private static void leaseCheckpointedAccount() {
+        Set<Fixture> carried = new LinkedHashSet<>(provided);
+        carried.remove(Fixture.REGISTERED_ACCOUNT);
+        if (carried.isEmpty()) {
+            return;
+        }
+
+        String email = (String) state.get("email");
+        AccountPool.Lease lease = email == null ? null : AccountPool.lease(email);
+        if (lease == null) {
+            Log.warn("Llogaria e checkpoint-it " + email + " nuk është e lirë – fixtures " + carried + " rindërtohen");
+            provided.removeAll(carried);
+            return;
+        }
+        account = email;
+        for (Fixture fixture : carried) {
+            AccountPool.handOver(fixture, lease);
+        }
+    }
+
+    private static void save() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("updatedAt", System.currentTimeMillis());
+        state.put("passed", new ArrayList<>(passed));
+        state.put("fixtures", provided.stream().map(Fixture::name).toList());
+        if (AccountPool.isEnabled()) {
+            // The password stays in the pool file; the account is leased again on resume
+            state.put("email", account);
+        } else {
+            state.put("email", Globals.registeredEmail);
+            state.put("password", Globals.registeredPassword);
+            state.put("name", Globals.registeredName);
+        }
+        state.put("snapshots", StateSnapshots.export());
+
+        Path tmp = file().resolveSibling(file().getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file().toAbsolutePath().getParent());
+            Files.writeString(tmp, JSON.toJson(state), StandardCharsets.UTF_8);
+            Files.move(tmp, file(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint nuk u ruajt: " + file(), e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package core.utilities;
+
+import core.globals.Globals;
+import core.globals.Rendering;
+import core.pages.HomePage;
+import core.pages.LoginPage;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TabScheduler:
+ * Runs @SharedBrowser tests as tabs of one signed-in Chrome instead of one browser (and one login) each.
+ * Every tab gets a driver bound to its window; all tab drivers go through one serialized command executor
+ * (a lock + switch to the tab's window before each command). The shared Chrome uses pageLoadStrategy=none,
+ * so no command blocks on a page load: a tab that navigates waits for its document by polling, one short
+ * command at a time, and the other tabs' commands run in between. Network time of one tab drives the others.
+ * Commands that may navigate (get, navigation, element click/submit, and executeScript, since page objects
+ * click through JsHelpers) tag the current document first; the Navigation API's "navigate" event, fired
+ * synchronously when a navigation starts, tells an in-page action from a navigation without a fixed delay.
+ * With the account pool, the shared browser signs in with a lease of its own, held until shutdown(), and the
+ * tests in its tabs use that account instead of leasing one each.
+ */
+public class TabScheduler {
+
+    // Serialized command executor: one WebDriver command at a time, on the window it belongs to
+    private static final ReentrantLock commands = new ReentrantLock();
+
+    // Tab drivers handed out, by identity (decorated proxies forward equals/hashCode to the shared driver)
+    private static final Set<WebDriver> tabs = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    // How long a click/submit/script may take to start a navigation before it counts as an in-page action
+    // (only without the Navigation API, where the start is seen through beforeunload)
+    private static final long NAVIGATION_GRACE_MS = 300;
+
+    // Tags the document and records the start of a cross-document navigation away from it
+    private static final String MARK =
+            "if (!window.__tabOldDocument) {"
+                    + "  window.__tabOldDocument = true;"
+                    + "  var flag = function () { window.__tabNavigating = true; };"
+                    + "  if (window.navigation) {"
+                    + "    navigation.addEventListener('navigate', function (e) {"
+                    + "      if (!e.destination || !e.destination.sameDocument) { flag(); }"
+                    + "    });"
+                    + "  }"
+                    + "  window.addEventListener('beforeunload', flag);"
+                    + "}"
+                    + "return !!window.navigation;";
+
+    // 'navigating' / 'old' (tagged document still shown, nothing started) / readyState of a new document
+    private static final String DOCUMENT_STATE =
+            "if (window.__tabOldDocument) { return window.__tabNavigating ? 'navigating' : 'old'; }"
+                    + "return document.readyState;";
+
+    private static final long POLL_MS = 50;
+
+    // Same as Chrome's default page-load timeout
+    private static final Duration PAGE_LOAD_TIMEOUT = Duration.ofSeconds(300);
+
+    private static BrowserSession shared;
+    private static String homeHandle;
+    private static String focused;
+
+    // Pool account the shared browser is signed in with (null without the account pool)
+    private static AccountPool.Lease lease;
+
+    /**
+     * True when tabSchedulerEnabled=true.
+     */
+    public static boolean isEnabled() {
+        return ConfigurationReader.getBoolean("tabSchedulerEnabled", false);
+    }
+
+    /**
+     * True if the driver is a tab of the shared browser (its CDP session belongs to another target).
+     */
+    public static boolean isTab(WebDriver driver) {
+        return tabs.contains(driver);
+    }
+
+    /**
+     * Opens a new tab in the shared browser, starting and signing it in on first use.
+     */
+    static synchronized BrowserSession openTab() {
+        // A bloated shared browser is replaced between tabs (see ResourceGovernor)
+        if (shared != null && tabs.isEmpty() && ResourceGovernor.shouldRecycle(shared)) {
+            shutdown();
+        }
+        boolean first = shared == null;
+        if (first) {
+            if (AccountPool.isEnabled() && lease == null) {
+                lease = AccountPool.lease();
+            }
+            ResourceGovernor.admit();
+            shared = BrowserSession.startShared();
+            homeHandle = shared.getDriver().getWindowHandle();
+            focused = homeHandle;
+        }
+
+        WebDriver raw = shared.getDriver();
+        String handle;
+        commands.lock();
+        try {
+            raw.switchTo().newWindow(WindowType.TAB);
+            handle = raw.getWindowHandle();
+            focused = handle;
+        } finally {
+            commands.unlock();
+        }
+
+        TabDriver decorator = new TabDriver(raw, handle);
+        WebDriver tab = decorator.decorate(raw);
+        decorator.self = tab;
+        tabs.add(tab);
+        if (first) {
+            signIn(tab);
+        }
+        if (lease != null) {
+            // The test in this tab works with the account the shared browser is signed in with
+            Globals.useLeasedAccount(lease.getEmail(), lease.getPassword(), lease.getName());
+        }
+        return BrowserSession.tab(tab);
+    }
+
+    /**
+     * True if a test gets a tab of the shared browser (and its account) instead of a browser of its own.
+     */
+    static boolean serves(Rendering.Mode mode, boolean shareable) {
+        boolean inJvm = mode == Rendering.Mode.DOM_ONLY
+                && ConfigurationReader.getBoolean("inJvmDriverEnabled", false);
+        return shareable && !inJvm && isEnabled();
+    }
+
+    /**
+     * Quits the shared browser and releases its account (suite end, or before a recycled browser).
+     */
+    public static synchronized void shutdown() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+            tabs.clear();
+        }
+        if (lease != null) {
+            lease.close();
+            lease = null;
+        }
+    }
+
+    /**
+     * Signs the shared browser in once; every tab opened later shares the session cookie.
+     */
+    private static void signIn(WebDriver tab) {
+        String email = lease != null ? lease.getEmail() : Globals.email();
+        String password = lease != null ? lease.getPassword() : Globals.password();
+        if (email == null) {
+            return;  // tests assert their own preconditions
+        }
+        int timeout = ConfigurationReader.getInt("timeoutSeconds");
+        tab.get(ConfigurationReader.get("url"));
+        HomePage home = new HomePage(tab, timeout);
+        home.goToSignIn();
+        new LoginPage(tab, timeout).login(email, password);
+        Log.info("Shfletuesi i përbashkët u identifikua: " + home.isUserLoggedIn());
+    }
+
+    /**
+     * Driver bound to one window: serializes each command and restores page-load waiting per tab.
+     */
+    private static class TabDriver extends WebDriverDecorator<WebDriver> {
+
+        private final WebDriver raw;
+        private final String handle;
+
+        // The decorated driver handed to the test
+        private WebDriver self;
+
+        TabDriver(WebDriver raw, String handle) {
+            this.raw = raw;
+            this.handle = handle;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Object original = target.getOriginal();
+            String name = method.getName();
+
+            if (original instanceof WebDriver && ("quit".equals(name) || "close".equals(name))) {
+                closeTab();
+                return null;
+            }
+
+            boolean explicit = (original instanceof WebDriver && "get".equals(name))
+                    || (original instanceof WebDriver.Navigation && !"toString".equals(name));
+            // May navigate: element clicks, and scripts (JsHelpers.click / scrollAndClick, form submits)
+            boolean navigates = explicit
+                    || (original instanceof WebElement && ("click".equals(name) || "submit".equals(name)))
+                    || (original instanceof WebDriver
+                        && ("executeScript".equals(name) || "executeAsyncScript".equals(name)));
+            boolean navigationApi = navigates && mark();
+
+            Object result;
+            commands.lock();
+            try {
+                focus();
+                result = super.call(target, method, args);
+            } finally {
+                commands.unlock();
+            }
+
+            if (navigates) {
+                // With the Navigation API an unstarted navigation is known at once; re-check one poll later
+                awaitDocument(explicit ? Long.MAX_VALUE : navigationApi ? POLL_MS : NAVIGATION_GRACE_MS);
+            }
+            return result;
+        }
+
+        private void focus() {
+            if (!handle.equals(focused)) {
+                raw.switchTo().window(handle);
+                focused = handle;
+            }
+        }
+
+        // Tags the current document so a new one can be told apart from it; true if the Navigation API is there
+        private boolean mark() {
+            commands.lock();
+            try {
+                focus();
+                return Boolean.TRUE.equals(((JavascriptExecutor) raw).executeScript(MARK));
+            } catch (WebDriverException e) {
+                // document is still loading; awaitDocument will see no tag and wait for it
+                return false;
+            } finally {
+                commands.unlock();
+            }
+        }
+
+        /**
+         * Polls (one short command per round, lock released in between) until a new, complete document is
+         * shown. Gives up quietly after graceMs if the old document is still there and no navigation started
+         * (in-page click or script).
+         */
+        private void awaitDocument(long graceMs) throws InterruptedException {
+            long start = System.currentTimeMillis();
+            long deadline = start + PAGE_LOAD_TIMEOUT.toMillis();
+            while (System.currentTimeMillis() < deadline) {
+                Object state = null;
+                commands.lock();
+                try {
+                    focus();
+                    state = ((JavascriptExecutor) raw).executeScript(DOCUMENT_STATE);
+                } catch (WebDriverException e) {
+                    // execution context replaced mid-navigation: poll again
+                } finally {
+                    commands.unlock();
+                }
+
+                if ("complete".equals(state)) {
+                    return;
+                }
+                if ("old".equals(state) && System.currentTimeMillis() - start >= graceMs) {
+                    return;
+                }
+                Thread.sleep(POLL_MS);
+            }
+        }
+
+        private void closeTab() {
+            tabs.remove(self);
+            commands.lock();
+            try {
+                focus();
+                raw.close();
+                raw.switchTo().window(homeHandle);
+                focused = homeHandle;
+            } finally {
+                commands.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package core.utilities;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestDataGenerator:
+ * Collision-free test data (emails, names, passwords) for parallel and multi-node runs.
+ * Every value combines a run time component, a node id, a worker id and a per-worker sequence:
+ *  - node id:   config "nodeId", env NODE_ID, or host hash + process id
+ *  - worker id: assigned once per thread from an atomic counter
+ *  - sequence / random: owned by the worker, so generating data never contends between threads
+ * Setting "testDataSeed" replays the same names and passwords for the same worker order (reproducible
+ * runs); emails keep the time and node components, so a rerun with the same seed never collides.
+ */
+public class TestDataGenerator {
+
+    private static final String[] FIRST_NAMES = {"Arta", "Besnik", "Drita", "Erion", "Fatjona", "Gent", "Ilir", "Jonida"};
+    private static final String[] LAST_NAMES = {"Hoxha", "Krasniqi", "Shehu", "Dervishi", "Leka", "Marku", "Prifti", "Rama"};
+    private static final String PASSWORD_CHARS = "abcdefghijkmnpqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    private static final Long SEED = seed();
+
+    // Prefix shared by all unique keys of this run on this node (never seeded)
+    private static final String RUN_PREFIX = Long.toString(System.currentTimeMillis(), 36) + "_" + nodeId();
+
+    private static final AtomicInteger WORKERS = new AtomicInteger();
+
+    private static final ThreadLocal<Worker> WORKER =
+            ThreadLocal.withInitial(() -> new Worker(WORKERS.incrementAndGet()));
+
+    private static final class Worker {
+        final int id;
+        final SplittableRandom random;
+        long sequence;
+
+        Worker(int id) {
+            this.id = id;
+            this.random = SEED != null
+                    ? new SplittableRandom(SEED * 31 + id)
+                    : new SplittableRandom();
+        }
+
+        String nextKey() {
+            return RUN_PREFIX + "_w" + id + "_" + (++sequence);
+        }
+    }
+
+    /**
+     * Unique email, e.g. testuser_lx3k9q1_4f2a1b2c_w3_1@gmail.com
+     */
+    public static String email() {
+        return "testuser_" + WORKER.get().nextKey() + "@gmail.com";
+    }
+
+    public static String firstName() {
+        SplittableRandom random = WORKER.get().random;
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    public static String lastName() {
+        SplittableRandom random = WORKER.get().random;
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    /**
+     * Random password accepted by the registration form (upper, lower, digit, symbol; 12 chars).
+     */
+    public static String password() {
+        SplittableRandom random = WORKER.get().random;
+        StringBuilder password = new StringBuilder("Qa1@");
+        for (int i = 0; i < 8; i++) {
+            password.append(PASSWORD_CHARS.charAt(random.nextInt(PASSWORD_CHARS.length())));
+        }
+        return password.toString();
+    }
+
+    private static Long seed() {
+        String seed = ConfigurationReader.get("testDataSeed");
+        return seed == null || seed.isBlank() ? null : Long.parseLong(seed.trim());
+    }
+
+    private static String nodeId() {
+        String configured = ConfigurationReader.get("nodeId");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getenv("NODE_ID");
+        }
+        if (configured != null && !configured.isBlank()) {
+            return configured.trim().replaceAll("[^A-Za-z0-9]", "");
+        }
+
+        String host = System.getenv().getOrDefault("HOSTNAME", System.getenv().getOrDefault("COMPUTERNAME", "local"));
+        return Integer.toString(host.hashCode() & 0xFFFF, 36) + Long.toString(ProcessHandle.current().pid(), 36);
+    }
+}
@@ -0,0 +1,193 @@
+package core.utilities;
+
+import org.testng.ITestResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestHistoryStore:
+ * Persisted per-test duration and outcome history in a compact append-only binary file.
+ * Each record is (test id, epoch millis, duration millis, TestNG status).
+ * Only the last runs of each test are used; the file is compacted when it grows too large.
+ * Appends and compaction hold a file lock (history file + ".lock"), so parallel JVMs neither lose appends to a
+ * file being replaced nor compact over each other. I/O failures are logged: history only orders tests, it
+ * never fails a run.
+ */
+public class TestHistoryStore {
+
+    // Runs kept per test when estimating / compacting
+    private static final int RUNS_KEPT = 10;
+
+    private static Map<String, Deque<Record>> history;
+
+    private static final class Record {
+        final long timestamp;
+        final int durationMillis;
+        final int status;
+
+        Record(long timestamp, int durationMillis, int status) {
+            this.timestamp = timestamp;
+            this.durationMillis = durationMillis;
+            this.status = status;
+        }
+    }
+
+    private static Path file() {
+        return Path.of(ConfigurationReader.get("historyFile") == null
+                ? "test-history/durations.bin"
+                : ConfigurationReader.get("historyFile"));
+    }
+
+    /**
+     * Estimated duration of a test: median of its last executed (not skipped) runs,
+     * or the default for unknown tests.
+     */
+    public static synchronized long estimateMillis(String testId) {
+        Deque<Record> runs = load().get(testId);
+        long defaultEstimate = ConfigurationReader.getInt("historyDefaultEstimateMs", 60000);
+        List<Integer> durations = new ArrayList<>();
+        for (Record run : runs == null ? new ArrayDeque<Record>() : runs) {
+            if (run.status != ITestResult.SKIP) {
+                durations.add(run.durationMillis);
+            }
+        }
+        if (durations.isEmpty()) {
+            return defaultEstimate;
+        }
+
+        durations.sort(null);
+        return durations.get(durations.size() / 2);
+    }
+
+    /**
+     * Appends one run to the history file.
+     */
+    public static synchronized void record(String testId, long durationMillis, int status) {
+        Record run = new Record(System.currentTimeMillis(), (int) Math.min(durationMillis, Integer.MAX_VALUE), status);
+        keep(load(), testId, run);
+
+        try {
+            withFileLock(() -> {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                        file(), StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                    write(out, testId, run);
+                }
+            });
+        } catch (IOException e) {
+            Log.warn("History nuk u ruajt: " + file() + " (" + e + ")");
+        }
+    }
+
+    private static Map<String, Deque<Record>> load() {
+        if (history != null) {
+            return history;
+        }
+
+        history = new HashMap<>();
+        if (!Files.exists(file())) {
+            return history;
+        }
+
+        try {
+            if (read(history)) {
+                withFileLock(TestHistoryStore::compact);
+            }
+        } catch (IOException e) {
+            Log.warn("History nuk u lexua: " + file() + " (" + e + "), vazhdohet me " + history.size() + " teste");
+        }
+        return history;
+    }
+
+    /**
+     * Reads the file into the map; true if it should be compacted (cut-off last record or too many old runs).
+     */
+    private static boolean read(Map<String, Deque<Record>> into) throws IOException {
+        int total = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file())))) {
+            while (true) {
+                String testId;
+                try {
+                    testId = in.readUTF();
+                } catch (EOFException end) {
+                    break;
+                }
+                keep(into, testId, new Record(in.readLong(), in.readInt(), in.readByte()));
+                total++;
+            }
+        } catch (EOFException e) {
+            // last record was cut off (e.g. killed JVM) – keep what was read and rewrite the file
+            return true;
+        }
+        return total > into.size() * RUNS_KEPT * 2;
+    }
+
+    /**
+     * Rewrites the file with only the runs still in use. Called under the file lock; re-reads the file first
+     * so runs appended by other JVMs since load() are kept.
+     */
+    private static void compact() throws IOException {
+        Map<String, Deque<Record>> current = new HashMap<>();
+        if (!read(current)) {
+            return; // another JVM compacted it meanwhile
+        }
+        Path tmp = file().resolveSibling(file().getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            for (Map.Entry<String, Deque<Record>> e : current.entrySet()) {
+                for (Record run : e.getValue()) {
+                    write(out, e.getKey(), run);
+                }
+            }
+        }
+        Files.move(tmp, file(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private interface FileAction {
+        void run() throws IOException;
+    }
+
+    // Cross-JVM lock on a sibling file (the history file itself is replaced by compaction)
+    private static void withFileLock(FileAction action) throws IOException {
+        Path lockFile = file().resolveSibling(file().getFileName() + ".lock");
+        Files.createDirectories(lockFile.toAbsolutePath().getParent());
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                action.run();
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    private static void keep(Map<String, Deque<Record>> map, String testId, Record run) {
+        Deque<Record> runs = map.computeIfAbsent(testId, k -> new ArrayDeque<>());
+        runs.addLast(run);
+        if (runs.size() > RUNS_KEPT) {
+            runs.removeFirst();
+        }
+    }
+
+    private static void write(DataOutputStream out, String testId, Record run) throws IOException {
+        out.writeUTF(testId);
+        out.writeLong(run.timestamp);
+        out.writeInt(run.durationMillis);
+        out.writeByte(run.status);
+    }
+}
@@ -0,0 +1,234 @@
+package core.utilities;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * VisualBaseline:
+ * Captures element images and compares them with stored baselines under /visual-baselines.
+ * Capturing costs two browser round-trips for any number of elements (one rect query + one
+ * full-page screenshot, cropped locally); comparisons run in parallel with PixelDiff.
+ *
+ * Snapshots are named "prefix-key" (e.g. sale-price-box-chelsea-tee), so a baseline follows its
+ * product rather than its position in the grid.
+ *
+ * A missing baseline fails the check; record (or re-approve) baselines and commit /visual-baselines:
+ *   mvn test -DvisualApprove=true
+ */
+public class VisualBaseline {
+
+    private static final Path BASELINE_DIR = Path.of("visual-baselines");
+    private static final Path DIFF_DIR = Path.of("screenshots", "visual-diffs");
+
+    /**
+     * An element image as raw ARGB pixels.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+
+        Snapshot(String name, BufferedImage image) {
+            this.name = name;
+            this.width = image.getWidth();
+            this.height = image.getHeight();
+            this.pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    // ================== CAPTURE ==================
+
+    /**
+     * Captures the given elements, keyed by a stable name (product name, option label, ...);
+     * snapshot names are "prefix-" + the key in lower-case-dashed form.
+     * Returns nothing when visualChecksEnabled=false (the default until baselines are committed), which turns
+     * verify() into a no-op; visualApprove=true captures regardless, to record them.
+     */
+    public static List<Snapshot> capture(WebDriver driver, String prefix, Map<String, WebElement> elements) {
+        List<Snapshot> snapshots = new ArrayList<>();
+        boolean enabled = ConfigurationReader.getBoolean("visualChecksEnabled", false)
+                || ConfigurationReader.getBoolean("visualApprove", false);
+        if (elements.isEmpty() || !enabled) {
+            return snapshots;
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String key : elements.keySet()) {
+            names.add(prefix + "-" + slug(key));
+        }
+        List<WebElement> targets = new ArrayList<>(elements.values());
+
+        DevTools devTools = CdpUtils.session(driver).orElse(null);
+        if (devTools == null) {
+            // No CDP: one element screenshot per element
+            for (int i = 0; i < targets.size(); i++) {
+                snapshots.add(new Snapshot(names.get(i),
+                        decode(targets.get(i).getScreenshotAs(OutputType.BYTES))));
+            }
+            return snapshots;
+        }
+
+        // 1) Document coordinates of all elements in device pixels
+        @SuppressWarnings("unchecked")
+        List<List<Number>> rects = (List<List<Number>>) ((JavascriptExecutor) driver).executeScript(
+                "var dpr = window.devicePixelRatio || 1;"
+                        + "return Array.prototype.map.call(arguments, function (e) {"
+                        + "  var r = e.getBoundingClientRect();"
+                        + "  return [(r.left + window.scrollX) * dpr, (r.top + window.scrollY) * dpr,"
+                        + "          r.width * dpr, r.height * dpr];"
+                        + "});",
+                targets.toArray());
+
+        // 2) One screenshot clipped to the whole document, so document coordinates map 1:1
+        //    onto the image (captureBeyondViewport alone may return just the viewport)
+        @SuppressWarnings("unchecked")
+        Map<String, Object> content = (Map<String, Object>) CdpUtils.send(devTools, "Page.getLayoutMetrics", Map.of())
+                .get("cssContentSize");
+        Map<String, Object> shot = CdpUtils.send(devTools, "Page.captureScreenshot", Map.of(
+                "format", "png",
+                "captureBeyondViewport", true,
+                "clip", Map.of(
+                        "x", 0,
+                        "y", 0,
+                        "width", ((Number) content.get("width")).doubleValue(),
+                        "height", ((Number) content.get("height")).doubleValue(),
+                        "scale", 1)
+        ));
+        BufferedImage page = decode(Base64.getDecoder().decode((String) shot.get("data")));
+
+        // 3) Crop locally; a rect outside the image means the capture is wrong, not the element
+        for (int i = 0; i < rects.size(); i++) {
+            List<Number> r = rects.get(i);
+            int x = Math.round(r.get(0).floatValue());
+            int y = Math.round(r.get(1).floatValue());
+            int w = Math.round(r.get(2).floatValue());
+            int h = Math.round(r.get(3).floatValue());
+            if (w <= 0 || h <= 0 || x < 0 || y < 0 || x + w > page.getWidth() || y + h > page.getHeight()) {
+                throw new IllegalStateException(String.format(
+                        "%s: rect [%d,%d %dx%d] nuk është brenda screenshot-it %dx%d",
+                        names.get(i), x, y, w, h, page.getWidth(), page.getHeight()));
+            }
+            snapshots.add(new Snapshot(names.get(i), page.getSubimage(x, y, w, h)));
+        }
+        return snapshots;
+    }
+
+    // ================== VERIFY ==================
+
+    /**
+     * Compares every snapshot with its baseline and returns a description of each mismatch
+     * (empty list = all match). Diff and actual images of mismatches go to /screenshots/visual-diffs.
+     */
+    public static List<String> verify(List<Snapshot> snapshots) {
+        boolean approve = ConfigurationReader.getBoolean("visualApprove", false);
+        double threshold = ConfigurationReader.getDouble("visualPixelThreshold", 0.1);
+        double maxDiffRatio = ConfigurationReader.getDouble("visualMaxDiffRatio", 0.001);
+
+        List<String> failures = new ArrayList<>();
+        List<Snapshot> compared = new ArrayList<>();
+        List<int[]> diffs = new ArrayList<>();
+        List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+
+        for (Snapshot actual : snapshots) {
+            Path baselineFile = BASELINE_DIR.resolve(actual.name + ".png");
+
+            if (approve) {
+                write(actual.width, actual.height, actual.pixels, baselineFile);
+                Log.info("Baseline u ruajt: " + baselineFile);
+                continue;
+            }
+            if (!Files.exists(baselineFile)) {
+                write(actual.width, actual.height, actual.pixels, DIFF_DIR.resolve(actual.name + ".actual.png"));
+                failures.add(actual.name + ": no baseline " + baselineFile
+                        + " (record it with -DvisualApprove=true and commit it)");
+                continue;
+            }
+
+            Snapshot expected = new Snapshot(actual.name, read(baselineFile));
+            if (expected.width != actual.width || expected.height != actual.height) {
+                write(actual.width, actual.height, actual.pixels, DIFF_DIR.resolve(actual.name + ".actual.png"));
+                failures.add(actual.name + ": size " + actual.width + "x" + actual.height
+                        + " != baseline " + expected.width + "x" + expected.height);
+                continue;
+            }
+
+            int[] diff = new int[actual.pixels.length];
+            compared.add(actual);
+            diffs.add(diff);
+            tasks.add(ForkJoinPool.commonPool().submit(new PixelDiff(
+                    expected.pixels, actual.pixels, diff, actual.width, actual.height, threshold)));
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Snapshot actual = compared.get(i);
+            int different = tasks.get(i).join();
+            double ratio = (double) different / actual.pixels.length;
+
+            if (ratio > maxDiffRatio) {
+                Path diffFile = DIFF_DIR.resolve(actual.name + ".diff.png");
+                write(actual.width, actual.height, diffs.get(i), diffFile);
+                write(actual.width, actual.height, actual.pixels, DIFF_DIR.resolve(actual.name + ".actual.png"));
+                failures.add(String.format("%s: %d px (%.2f%%) differ, diff: %s",
+                        actual.name, different, ratio * 100, diffFile));
+            }
+        }
+        return failures;
+    }
+
+    // ================== IMAGE IO ==================
+
+    private static BufferedImage decode(byte[] png) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedImage read(Path file) {
+        try {
+            return ImageIO.read(file.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Baseline nuk u lexua: " + file, e);
+        }
+    }
+
+    private static void write(int width, int height, int[] pixels, Path file) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        try {
+            Files.createDirectories(file.getParent());
+            ImageIO.write(image, "png", file.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String slug(String key) {
+        String slug = key.trim().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return slug.replaceAll("^-|-$", "");
+    }
+}
@@ -17,21 +17,21 @@ public class WaitUtils {
 
     // Waits until a single element becomes visible.
     public static WebElement waitForVisibility(WebDriver driver, WebElement element, int seconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(seconds));
+        WebDriverWait wait = new AdaptiveWait(driver, Duration.ofSeconds(seconds));
         return wait.until(ExpectedConditions.visibilityOf(element));
     }
 
     // Waits until all elements in a list become visible.
     // Useful when expecting a grid/list/table to finish rendering.
     public static void waitForAllVisible(WebDriver driver, List<WebElement> elements, int seconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(seconds));
+        WebDriverWait wait = new AdaptiveWait(driver, Duration.ofSeconds(seconds));
         wait.until(ExpectedConditions.visibilityOfAllElements(elements));
     }
 
     // Waits until an element becomes clickable (visible + enabled).
     // Commonly required before performing click actions.
     public static WebElement waitForClickable(WebDriver driver, WebElement element, int seconds) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(seconds));
+        WebDriverWait wait = new AdaptiveWait(driver, Duration.ofSeconds(seconds));
         return wait.until(ExpectedConditions.elementToBeClickable(element));
     }
 }
@@ -0,0 +1,61 @@
+// window.__qa: page-side helpers for the page objects (see core.utilities.JsHelpers).
+// Registered once per document; Java calls them by name, so each executeScript sends a one-line invocation.
+// __QA_VERSION__ is replaced by JsHelpers.VERSION - bump it whenever this file changes.
+(function () {
+    var VERSION = '__QA_VERSION__';
+    if (window.__qa && window.__qa.version === VERSION) {
+        return;
+    }
+
+    function text(el) {
+        return el ? (el.textContent || '').replace(/\s+/g, ' ').trim() : '';
+    }
+
+    window.__qa = {
+        version: VERSION,
+
+        scrollIntoView: function (el) {
+            el.scrollIntoView({block: 'center', inline: 'nearest'});
+        },
+
+        click: function (el) {
+            el.click();
+        },
+
+        scrollAndClick: function (el) {
+            el.scrollIntoView({block: 'center', inline: 'nearest'});
+            el.click();
+        },
+
+        // For each element: trimmed text of its first match of childSelector ('' when absent)
+        texts: function (elements, childSelector) {
+            var out = [];
+            for (var i = 0; i < elements.length; i++) {
+                out.push(text(elements[i].querySelector(childSelector)));
+            }
+            return out;
+        },
+
+        // Cart rows (name, qty, subtotal) and the totals table in one call; null when there is no cart table
+        cart: function () {
+            var table = document.querySelector('table#shopping-cart-table');
+            if (!table) {
+                return null;
+            }
+            var rows = table.querySelectorAll('tbody tr'), items = [];
+            for (var i = 0; i < rows.length; i++) {
+                var qty = rows[i].querySelector('input.qty');
+                items.push({
+                    name: text(rows[i].querySelector('.product-name')),
+                    qty: qty ? qty.value : '',
+                    subtotal: text(rows[i].querySelector('td.product-cart-total span.price'))
+                });
+            }
+            var totals = document.querySelectorAll('table#shopping-cart-totals-table span.price');
+            return {
+                rows: items,
+                grandTotal: totals.length ? text(totals[totals.length - 1]) : ''
+            };
+        }
+    };
+})();